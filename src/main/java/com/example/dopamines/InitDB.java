@@ -9,7 +9,7 @@ import com.example.dopamines.domain.user.repository.UserRepository;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -25,7 +25,7 @@ public class InitDB {
     private final SeatRepository seatRepository;
     private final UserRepository userRepository;
     private final TeamRepository teamRepository;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final PasswordEncoder passwordEncoder;
 
     @PostConstruct
     public void dataInsert() {
@@ -99,7 +99,7 @@ public class InitDB {
                 User user = User.builder()
                         .name(users[i])
                         .email(users[i]+"@test.com")
-                        .password(bCryptPasswordEncoder.encode("qwer1234"))
+                        .password(passwordEncoder.encode("qwer1234"))
                         .nickname(users[i])
                         .address("보라매로 87")
                         .phoneNumber("010-1234-5678")
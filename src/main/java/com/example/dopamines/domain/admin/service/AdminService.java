@@ -13,8 +13,9 @@ import java.time.format.DateTimeFormatter;
 
 import com.example.dopamines.global.common.BaseException;
 import com.example.dopamines.global.common.BaseResponseStatus;
+import com.example.dopamines.global.security.TokenRevocationService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -22,14 +23,15 @@ import org.springframework.stereotype.Service;
 public class AdminService {
 
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationService tokenRevocationService;
     
     public AdminSignupRes signupAdmin(AdminSignupReq request) {
         LocalDateTime localDateTime = LocalDateTime.now();
         localDateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
         User user = User.builder()
                 .email(request.getEmail())
-                .password(bCryptPasswordEncoder.encode(request.getPassword()))
+                .password(passwordEncoder.encode(request.getPassword()))
                 .name(request.getName())
                 .nickname(request.getNickname())
                 .phoneNumber(request.getPhoneNumber())
@@ -58,6 +60,7 @@ public class AdminService {
         if(result != null){
             result.activeHanwhaUser(request.getCourseNum());  // TEMPORARY_USER -> USER 변경
             User user = userRepository.save(result);
+            tokenRevocationService.restore(user.getIdx());
 
             return UserAssignedRes.builder()
                     .courseNum(user.getCourseNum())
@@ -76,6 +79,7 @@ public class AdminService {
         if(result != null){
             result.setToBlackList();
             User user = userRepository.save(result);
+            tokenRevocationService.revoke(user.getIdx()); // 발급된 JWT 도 바로 사용 불가
 
             return UserBlackRes.builder()
                     .courseNum(user.getCourseNum())
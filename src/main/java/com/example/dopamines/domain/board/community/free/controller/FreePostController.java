@@ -4,6 +4,7 @@ import com.example.dopamines.domain.board.community.free.model.request.FreePostR
 import com.example.dopamines.domain.board.community.free.model.request.FreePostUpdateReq;
 import com.example.dopamines.domain.board.community.free.model.response.FreePostReadRes;
 import com.example.dopamines.domain.board.community.free.model.response.FreePostRes;
+import com.example.dopamines.domain.board.community.free.model.response.FreePostSearchPageRes;
 import com.example.dopamines.domain.board.community.free.service.FreePostService;
 import com.example.dopamines.domain.user.model.entity.User;
 import com.example.dopamines.global.common.BaseResponse;
@@ -71,9 +72,9 @@ public class FreePostController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<BaseResponse<?>> search(@AuthenticationPrincipal CustomUserDetails customUserDetails,Integer page, Integer size,String keyword){
+    public ResponseEntity<BaseResponse<?>> search(@AuthenticationPrincipal CustomUserDetails customUserDetails,String cursor, Integer size,String keyword){
         User user = customUserDetails.getUser();
-        List<FreePostRes> response = freePostService.search(page,size,keyword);
+        FreePostSearchPageRes response = freePostService.search(cursor,size,keyword);
         return ResponseEntity.status(HttpStatus.OK).body(new BaseResponse<>(response));
     }
 }
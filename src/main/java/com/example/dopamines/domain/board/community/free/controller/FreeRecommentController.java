@@ -6,6 +6,7 @@ import com.example.dopamines.domain.board.community.free.model.request.FreeComme
 import com.example.dopamines.domain.board.community.free.model.request.FreeRecommentReq;
 import com.example.dopamines.domain.board.community.free.model.request.FreeRecommentUpdateReq;
 import com.example.dopamines.domain.board.community.free.model.response.FreeCommentReadRes;
+import com.example.dopamines.domain.board.community.free.model.response.FreeRecommentPageRes;
 import com.example.dopamines.domain.board.community.free.model.response.FreeRecommentReadRes;
 import com.example.dopamines.domain.board.community.free.service.FreeRecommentService;
 import com.example.dopamines.domain.user.model.entity.User;
@@ -39,6 +40,13 @@ public class FreeRecommentController {
         return ResponseEntity.ok(new BaseResponse<>(res));
     }
 
+    // 게시글 상세의 recommentCursor 로 이어서 조회
+    @GetMapping("/cursor")
+    public ResponseEntity<BaseResponse<?>> findAllWithCursor(Long idx, String cursor, Integer size) {
+        FreeRecommentPageRes res = freeRecommentService.findAllWithCursor(idx, cursor, size);
+        return ResponseEntity.ok(new BaseResponse<>(res));
+    }
+
 
     @PutMapping("/update")
     public ResponseEntity<BaseResponse<?>> update(@AuthenticationPrincipal CustomUserDetails customUserDetails,@RequestBody FreeRecommentUpdateReq req){
@@ -34,6 +34,8 @@ public class FreeComment {
     @JoinColumn(name = "post_idx")
     private FreePost freePost;
 
+    // FreeLikeCounter 가 likes_count = likes_count + ? 로만 반영 (엔티티 저장 시 읽어 둔 값으로 덮어쓰지 않도록 insert/update 제외)
+    @Column(insertable = false, updatable = false)
     @ColumnDefault(value = "0")
     private Integer likesCount;
 
@@ -41,13 +43,6 @@ public class FreeComment {
     @ColumnDefault(value = "0")
     private Integer version;
 
-    public void addLikesCount() {
-        this.likesCount = this.likesCount + 1;
-    }
-    public void subLikesCount() {
-        this.likesCount = this.likesCount - 1;
-    }
-
 //    @OneToMany(mappedBy = "freeComment", fetch = FetchType.LAZY)
 //    @BatchSize(size = 10)
 //    private List<FreeCommentLike> likes;
@@ -35,6 +35,8 @@ public class FreeRecomment {
 
 //    @OneToMany(mappedBy = "freeRecomment")
 //    private List<FreeRecommentLike> likes;
+    // FreeLikeCounter 가 likes_count = likes_count + ? 로만 반영 (엔티티 저장 시 읽어 둔 값으로 덮어쓰지 않도록 insert/update 제외)
+    @Column(insertable = false, updatable = false)
     @ColumnDefault(value = "0")
     private Integer likesCount;
 
@@ -42,10 +44,4 @@ public class FreeRecomment {
     @ColumnDefault(value = "0")
     private Integer version;
 
-    public void addLikesCount() {
-        this.likesCount = this.likesCount + 1;
-    }
-    public void subLikesCount() {
-        this.likesCount = this.likesCount - 1;
-    }
 }
@@ -16,4 +16,5 @@ public class FreeCommentReadRes {
     private LocalDateTime createdAt;
     private Integer likeCount;
     private List<FreeRecommentReadRes> recommentList;
+    private String recommentCursor; // 다음 대댓글 조회용 커서, 더 없으면 null
 }
@@ -0,0 +1,12 @@
+package com.example.dopamines.domain.board.community.free.model.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FreeRecommentPageRes {
+    private List<FreeRecommentReadRes> recomments;
+    private String nextCursor;
+}
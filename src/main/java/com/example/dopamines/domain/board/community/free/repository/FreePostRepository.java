@@ -3,12 +3,14 @@ package com.example.dopamines.domain.board.community.free.repository;
 
 import com.example.dopamines.domain.board.community.free.model.entity.FreePost;
 import com.example.dopamines.domain.board.community.free.model.entity.FreePostImage;
+import com.example.dopamines.global.search.PostSearchDocument;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface FreePostRepository extends JpaRepository<FreePost, Long> {
@@ -20,7 +22,14 @@ public interface FreePostRepository extends JpaRepository<FreePost, Long> {
 
     //Optional<FreePostImage> findBy
 
-    @Query("SELECT f FROM FreePost f WHERE LOCATE(:keyword, f.title) > 0 OR LOCATE(:keyword, f.content) > 0")
-    Optional<Slice<FreePost>> search(Pageable pageable, String keyword);
+    // 검색 색인이 준비되기 전 사용하는 DB 검색 (idx 기준 keyset)
+    @Query("SELECT f FROM FreePost f WHERE (:lastIdx IS NULL OR f.idx < :lastIdx) "
+            + "AND (LOCATE(:keyword, f.title) > 0 OR LOCATE(:keyword, f.content) > 0) ORDER BY f.idx DESC")
+    Slice<FreePost> search(Long lastIdx, String keyword, Pageable pageable);
+
+    // 검색 색인 적재용 (idx 오름차순으로 나눠 읽기, 색인에 쓰는 컬럼만)
+    @Query("SELECT new com.example.dopamines.global.search.PostSearchDocument(f.idx, f.title, f.content) "
+            + "FROM FreePost f WHERE f.idx > :lastIdx ORDER BY f.idx ASC")
+    List<PostSearchDocument> findSearchDocumentsAfterIdx(Long lastIdx, Pageable pageable);
 
 }
@@ -1,6 +1,8 @@
 package com.example.dopamines.domain.board.community.free.repository;
 
 import com.example.dopamines.domain.board.community.free.model.entity.FreeRecomment;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,4 +12,15 @@ public interface FreeRecommentRepository extends JpaRepository<FreeRecomment,Lon
     @Query("SELECT fr FROM FreeRecomment fr JOIN FETCH fr.user u WHERE fr.freeComment.idx = :commentIdx")
     //개선 전: @Query("SELECT fr FROM FreeRecomment fr  WHERE fr.freeComment.idx = :commentIdx")
     Slice<FreeRecomment> findAllWithPaging(Pageable pageable, Long commentIdx);
+
+    // 댓글 상세의 다음 대댓글 (lastIdx 보다 오래된 것부터)
+    @Query("SELECT fr FROM FreeRecomment fr JOIN FETCH fr.user u WHERE fr.freeComment.idx = :commentIdx "
+            + "AND (:lastIdx IS NULL OR fr.idx < :lastIdx) ORDER BY fr.idx DESC")
+    Slice<FreeRecomment> findAllAfter(Long commentIdx, Long lastIdx, Pageable pageable);
+
+    // 댓글마다 최신 size 개씩만 한 번에 조회
+    @Query(value = "SELECT t.* FROM (SELECT r.*, ROW_NUMBER() OVER (PARTITION BY r.comment_idx ORDER BY r.idx DESC) AS rn "
+            + "FROM free_recomment r WHERE r.comment_idx IN (:commentIdxList)) t "
+            + "WHERE t.rn <= :size ORDER BY t.comment_idx, t.idx DESC", nativeQuery = true)
+    List<FreeRecomment> findFirstByCommentIdxIn(Collection<Long> commentIdxList, int size);
 }
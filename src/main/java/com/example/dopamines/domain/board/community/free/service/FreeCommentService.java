@@ -5,6 +5,7 @@ import com.example.dopamines.domain.board.community.free.model.entity.FreeCommen
 import com.example.dopamines.domain.board.community.free.model.request.FreeCommentReq;
 import com.example.dopamines.domain.board.community.free.model.request.FreeCommentUpdateReq;
 import com.example.dopamines.domain.board.community.free.model.response.FreeCommentReadRes;
+import com.example.dopamines.domain.board.community.free.model.response.FreeRecommentPageRes;
 import com.example.dopamines.domain.board.community.free.repository.FreePostRepository;
 
 import com.example.dopamines.domain.board.community.free.repository.FreeCommentRepository;
@@ -12,6 +13,7 @@ import com.example.dopamines.domain.board.community.free.repository.FreeRecommen
 import com.example.dopamines.domain.user.model.entity.User;
 import com.example.dopamines.global.common.BaseException;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import com.example.dopamines.global.common.BaseResponseStatus;
 
@@ -33,6 +35,8 @@ public class FreeCommentService {
     private final FreeCommentRepository freeCommentRepository;
     private final FreePostRepository freePostRepository;
     private final FreeRecommentRepository freeRecommentRepository;
+    private final FreeLikeCounter freeLikeCounter;
+    private final FreeRecommentService freeRecommentService;
 
     @Transactional
     public String create(User user, FreeCommentReq req) {
@@ -113,10 +117,34 @@ public class FreeCommentService {
                         .author(comment.getUser().getNickname())
                         .content(comment.getContent())
                         .createdAt(comment.getCreatedAt())
-                        .likeCount(comment.getLikesCount())
+                        .likeCount(freeLikeCounter.withPending(FreeLikeCounter.Target.COMMENT, comment.getIdx(), comment.getLikesCount()))
                         .build()
         ).collect(Collectors.toList());
 
         return res;
     }
-}
\ No newline at end of file
+
+    // 게시글 상세용: 댓글 한 페이지 + 댓글별 최신 대댓글 recommentSize 개 (대댓글은 IN 쿼리 한 번)
+    public List<FreeCommentReadRes> findAllWithRecomments(Long postIdx, Integer page, Integer size, int recommentSize) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "idx"));
+        Slice<FreeComment> comments = freeCommentRepository.findAllWithPaging(pageable, postIdx);
+
+        List<Long> commentIdxList = comments.stream().map(FreeComment::getIdx).toList();
+        Map<Long, FreeRecommentPageRes> recomments = freeRecommentService.findFirstByComments(postIdx, commentIdxList, recommentSize);
+
+        return comments.stream()
+                .map((comment) -> {
+                    FreeRecommentPageRes recommentPage = recomments.get(comment.getIdx());
+                    return FreeCommentReadRes.builder()
+                            .idx(comment.getIdx())
+                            .freePostIdx(postIdx)
+                            .author(comment.getUser().getNickname())
+                            .content(comment.getContent())
+                            .createdAt(comment.getCreatedAt())
+                            .likeCount(freeLikeCounter.withPending(FreeLikeCounter.Target.COMMENT, comment.getIdx(), comment.getLikesCount()))
+                            .recommentList(recommentPage == null ? List.of() : recommentPage.getRecomments())
+                            .recommentCursor(recommentPage == null ? null : recommentPage.getNextCursor())
+                            .build();
+                }).collect(Collectors.toList());
+    }
+}
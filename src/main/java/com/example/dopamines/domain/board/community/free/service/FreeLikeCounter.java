@@ -0,0 +1,177 @@
+package com.example.dopamines.domain.board.community.free.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 자유 게시판 게시글/댓글/대댓글 좋아요 수의 아직 DB 에 반영되지 않은 증감분.
+ * 좋아요 요청마다 엔티티를 읽어 +1/-1 후 저장하면 @Version 충돌과 갱신 손실이 생기므로
+ * 대상별 LongAdder 에 모아 두었다가 주기적으로 likes_count = likes_count + ? 로 한 번에 반영한다.
+ * 조회 시에는 DB 값에 pending(...) 을 더해서 보여준다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FreeLikeCounter {
+    public enum Target {
+        POST("UPDATE free_post SET likes_count = COALESCE(likes_count, 0) + ? WHERE idx = ?"),
+        COMMENT("UPDATE free_comment SET likes_count = COALESCE(likes_count, 0) + ? WHERE idx = ?"),
+        RECOMMENT("UPDATE free_recomment SET likes_count = COALESCE(likes_count, 0) + ? WHERE idx = ?");
+
+        private final String updateSql;
+
+        Target(String updateSql) {
+            this.updateSql = updateSql;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Target, ConcurrentHashMap<Long, LongAdder>> deltas = createMaps();
+    // 한 주기 동안 변화가 없어 deltas 에서 뺀 카운터. 빼기 직전에 참조를 얻은 요청의 증감분을 다음 flush 에서 마저 반영한다
+    // (값은 불변 리스트이고 flush 스레드만 교체한다)
+    private final Map<Target, ConcurrentHashMap<Long, List<LongAdder>>> retired = createMaps();
+
+    private static <V> Map<Target, ConcurrentHashMap<Long, V>> createMaps() {
+        Map<Target, ConcurrentHashMap<Long, V>> maps = new EnumMap<>(Target.class);
+        for (Target target : Target.values()) {
+            maps.put(target, new ConcurrentHashMap<>());
+        }
+        return maps;
+    }
+
+    public void increase(Target target, Long idx) {
+        addAfterCommit(target, idx, 1);
+    }
+
+    public void decrease(Target target, Long idx) {
+        addAfterCommit(target, idx, -1);
+    }
+
+    // 좋아요 행 insert/delete 가 롤백되면 증감분도 남기지 않는다
+    private void addAfterCommit(Target target, Long idx, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(target, idx, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(target, idx, delta);
+            }
+        });
+    }
+
+    private void add(Target target, Long idx, long delta) {
+        deltas.get(target).computeIfAbsent(idx, (key) -> new LongAdder()).add(delta);
+    }
+
+    public long pending(Target target, Long idx) {
+        LongAdder delta = deltas.get(target).get(idx);
+        long pending = delta == null ? 0 : delta.sum();
+        List<LongAdder> old = retired.get(target).get(idx);
+        if (old != null) {
+            for (LongAdder adder : old) {
+                pending += adder.sum();
+            }
+        }
+        return pending;
+    }
+
+    public int withPending(Target target, Long idx, Integer likesCount) {
+        return (int) ((likesCount == null ? 0 : likesCount) + pending(target, idx));
+    }
+
+    @Scheduled(fixedDelayString = "${free.like.flush-ms:1000}")
+    public synchronized void flush() {
+        for (Target target : Target.values()) {
+            flush(target);
+        }
+    }
+
+    // 반영할 값을 읽어 DB 에 더한 뒤에 카운터에서 빼므로, flush 도중의 조회에서도 좋아요 수가 줄어 보이지 않는다
+    private void flush(Target target) {
+        ConcurrentHashMap<Long, LongAdder> targetDeltas = deltas.get(target);
+        ConcurrentHashMap<Long, List<LongAdder>> targetRetired = retired.get(target);
+        List<LongAdder> counters = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>();
+
+        Map<Long, List<LongAdder>> retiredCounters = new HashMap<>(targetRetired);
+        retiredCounters.forEach((idx, adders) -> adders.forEach((adder) -> collect(counters, batch, idx, adder)));
+        for (Map.Entry<Long, LongAdder> entry : targetDeltas.entrySet()) {
+            if (entry.getValue().sum() == 0) {
+                if (targetDeltas.remove(entry.getKey(), entry.getValue())) {
+                    retire(targetRetired, entry.getKey(), entry.getValue());
+                }
+                continue;
+            }
+            collect(counters, batch, entry.getKey(), entry.getValue());
+        }
+
+        if (batch.isEmpty()) {
+            dropEmpty(targetRetired, retiredCounters);
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult((status) -> jdbcTemplate.batchUpdate(target.updateSql, batch));
+        } catch (DataAccessException e) {
+            // 반영하지 못한 증감분은 카운터에 그대로 남겨 다음 주기에 다시 시도
+            log.warn("[FREE][LIKE FLUSH FAILED] => {} : {} rows", target, batch.size(), e);
+            return;
+        }
+
+        for (int i = 0; i < counters.size(); i++) {
+            long flushed = (Long) batch.get(i)[0];
+            counters.get(i).add(-flushed);
+        }
+        dropEmpty(targetRetired, retiredCounters);
+    }
+
+    private void retire(ConcurrentHashMap<Long, List<LongAdder>> targetRetired, Long idx, LongAdder delta) {
+        targetRetired.compute(idx, (key, old) -> {
+            List<LongAdder> adders = old == null ? new ArrayList<>() : new ArrayList<>(old);
+            adders.add(delta);
+            return List.copyOf(adders);
+        });
+    }
+
+    // 이번 주기 전에 retire 된 카운터 중 모두 반영된 것은 버린다 (그 사이 늦게 더해진 값이 있으면 남긴다)
+    private void dropEmpty(ConcurrentHashMap<Long, List<LongAdder>> targetRetired, Map<Long, List<LongAdder>> retiredCounters) {
+        retiredCounters.forEach((idx, flushed) -> targetRetired.computeIfPresent(idx, (key, current) -> {
+            List<LongAdder> remaining = current.stream()
+                    .filter((adder) -> !flushed.contains(adder) || adder.sum() != 0)
+                    .toList();
+            return remaining.isEmpty() ? null : remaining;
+        }));
+    }
+
+    // 지금 값을 스냅샷으로 batch 에 담는다 (flush 성공 후 같은 값만큼 카운터에서 뺀다)
+    private void collect(List<LongAdder> counters, List<Object[]> batch, Long idx, LongAdder delta) {
+        long snapshot = delta.sum();
+        if (snapshot != 0) {
+            counters.add(delta);
+            batch.add(new Object[]{snapshot, idx});
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
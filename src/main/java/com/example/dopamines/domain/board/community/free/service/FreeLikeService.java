@@ -22,93 +22,76 @@ public class FreeLikeService {
     private final FreeCommentRepository freeCommentRepository;
     private final FreeRecommentRepository freeRecommentRepository;
     private final FreeRecommentLikeRepository freeRecommentLikeRepository;
+    private final FreeLikeCounter freeLikeCounter;
 
 
+    // 좋아요 수는 엔티티를 저장하지 않고 FreeLikeCounter 에 증감분만 쌓는다 (@Version 충돌 방지)
     @Transactional
     public String createFreePostLike(User user, Long idx) {
-        FreePost freePost = freePostRepository.findById(idx).orElseThrow(() -> new BaseException(COMMUNITY_BOARD_NOT_FOUND));
+        if (!freePostRepository.existsById(idx)) {
+            throw new BaseException(COMMUNITY_BOARD_NOT_FOUND);
+        }
 
         Optional<FreePostLike> result = freePostLikeRepository.findByUserAndFreePost(user.getIdx(), idx);
-               // .orElseThrow(() -> new BaseException(BaseResponseStatus.COMMUNITY_POST_LIKE_FAILED));
-        FreePostLike freePostLike = null;
 
         if(result.isPresent()){ // 이미 좋아요한 경우
-            freePostLike = result.get();
-            freePostLikeRepository.delete(freePostLike);
-
-            freePost.subLikesCount();
-            freePostRepository.save(freePost);
+            freePostLikeRepository.delete(result.get());
+            freeLikeCounter.decrease(FreeLikeCounter.Target.POST, idx);
 
             return "자유 게시글 좋아요 취소";
         }
 
-
-        freePost.addLikesCount();
-        freePostRepository.save(freePost);
-
-        freePostLike = FreePostLike.builder()
+        freePostLikeRepository.save(FreePostLike.builder()
                 .user(user)
-                .freePost(freePost)
-                .build();
-        freePostLikeRepository.save(freePostLike);
+                .freePost(freePostRepository.getReferenceById(idx))
+                .build());
+        freeLikeCounter.increase(FreeLikeCounter.Target.POST, idx);
         return "자유 게시글 좋아요 등록";
     }
 
     @Transactional
     public String createCommentLike(User user, Long idx) {
-        FreeComment freeComment = freeCommentRepository.findById(idx).orElseThrow(() -> new BaseException(COMMUNITY_COMMENT_NOT_FOUND));
+        if (!freeCommentRepository.existsById(idx)) {
+            throw new BaseException(COMMUNITY_COMMENT_NOT_FOUND);
+        }
 
         Optional<FreeCommentLike> result = freeCommentLikeRepository.findByUserAndIdx(user.getIdx(),idx);
-        FreeCommentLike freeCommentLike = null;
 
         if(result.isPresent()){ // 이미 좋아요한 경우
-            freeCommentLike = result.get();
-            freeCommentLikeRepository.delete(freeCommentLike);
-
-            freeComment.subLikesCount();
-            freeCommentRepository.save(freeComment);
+            freeCommentLikeRepository.delete(result.get());
+            freeLikeCounter.decrease(FreeLikeCounter.Target.COMMENT, idx);
 
             return "자유 게시글 댓글 좋아요 취소";
         }
 
-        freeComment.addLikesCount();
-        freeCommentRepository.save(freeComment);
-
-
-        freeCommentLike = FreeCommentLike.builder()
+        freeCommentLikeRepository.save(FreeCommentLike.builder()
                 .user(user)
-                .freeComment(freeComment)
-                .build();
-        freeCommentLikeRepository.save(freeCommentLike);
+                .freeComment(freeCommentRepository.getReferenceById(idx))
+                .build());
+        freeLikeCounter.increase(FreeLikeCounter.Target.COMMENT, idx);
         return "자유 게시글 댓글 좋아요 등록";
     }
 
     @Transactional
     public String createRecommentLike(User user, Long idx) {
-        FreeRecomment freeRecomment = freeRecommentRepository.findById(idx).orElseThrow(() -> new BaseException(COMMUNITY_RECOMMENT_NOT_FOUND));
+        if (!freeRecommentRepository.existsById(idx)) {
+            throw new BaseException(COMMUNITY_RECOMMENT_NOT_FOUND);
+        }
 
         Optional<FreeRecommentLike> result = freeRecommentLikeRepository.findByUserAndIdx(user.getIdx(),idx);
-        FreeRecommentLike freeRecommentLike = null;
 
         if(result.isPresent()){ // 이미 좋아요한 경우
-            freeRecommentLike = result.get();
-            freeRecommentLikeRepository.delete(freeRecommentLike);
-
-            freeRecomment.subLikesCount();
-            freeRecommentRepository.save(freeRecomment);
+            freeRecommentLikeRepository.delete(result.get());
+            freeLikeCounter.decrease(FreeLikeCounter.Target.RECOMMENT, idx);
 
             return "자유 게시글 대댓글 좋아요 취소";
         }
 
-        freeRecomment.addLikesCount();
-        freeRecommentRepository.save(freeRecomment);
-
-
-        freeRecommentLike = FreeRecommentLike.builder()
+        freeRecommentLikeRepository.save(FreeRecommentLike.builder()
                 .user(user)
-                .freeRecomment(freeRecomment)
-                .build();
-        freeRecommentLikeRepository.save(freeRecommentLike);
+                .freeRecomment(freeRecommentRepository.getReferenceById(idx))
+                .build());
+        freeLikeCounter.increase(FreeLikeCounter.Target.RECOMMENT, idx);
         return "자유 게시글 대댓글 좋아요 등록";
     }
 }
@@ -0,0 +1,58 @@
+package com.example.dopamines.domain.board.community.free.service;
+
+import com.example.dopamines.domain.board.community.free.model.entity.FreePost;
+import com.example.dopamines.domain.board.community.free.repository.FreePostRepository;
+import com.example.dopamines.global.search.PostSearchDocument;
+import com.example.dopamines.global.search.PostSearchIndex;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// /free/post/search 용 메모리 역색인
+@Component
+@RequiredArgsConstructor
+public class FreePostSearchIndex extends PostSearchIndex<FreePost> {
+    private final FreePostRepository freePostRepository;
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        super.build();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${free.search.refresh-ms:10000}")
+    public void refresh() {
+        super.refresh();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${free.search.reconcile-ms:600000}", initialDelayString = "${free.search.reconcile-ms:600000}")
+    public void reconcile() {
+        super.reconcile();
+    }
+
+    @Override
+    protected List<PostSearchDocument> loadAfter(long lastIdx, int size) {
+        return freePostRepository.findSearchDocumentsAfterIdx(lastIdx, PageRequest.of(0, size));
+    }
+
+    @Override
+    protected Long idxOf(FreePost post) {
+        return post.getIdx();
+    }
+
+    @Override
+    protected String titleOf(FreePost post) {
+        return post.getTitle();
+    }
+
+    @Override
+    protected String contentOf(FreePost post) {
+        return post.getContent();
+    }
+}
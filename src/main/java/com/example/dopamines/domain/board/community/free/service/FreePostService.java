@@ -8,6 +8,8 @@ import com.example.dopamines.domain.board.community.free.model.request.FreePostR
 import com.example.dopamines.domain.board.community.free.model.request.FreePostUpdateReq;
 import com.example.dopamines.domain.board.community.free.model.response.FreePostReadRes;
 import com.example.dopamines.domain.board.community.free.model.response.FreePostRes;
+import com.example.dopamines.domain.board.community.free.model.response.FreePostSearchPageRes;
+import com.example.dopamines.domain.board.community.free.model.response.FreePostSearchRes;
 import com.example.dopamines.domain.board.community.free.model.response.FreeCommentReadRes;
 import com.example.dopamines.domain.board.community.free.model.response.FreeRecommentReadRes;
 import com.example.dopamines.domain.board.community.free.repository.FreeCommentRepository;
@@ -17,6 +19,10 @@ import com.example.dopamines.domain.board.market.model.entity.MarketProductImage
 import com.example.dopamines.domain.user.model.entity.User;
 import com.example.dopamines.global.common.BaseException;
 import com.example.dopamines.global.common.BaseResponseStatus;
+import com.example.dopamines.global.search.IndexSearchPage;
+import com.example.dopamines.global.search.NgramInvertedIndex;
+import com.example.dopamines.global.search.SearchCursor;
+import com.example.dopamines.global.search.SearchHighlighter;
 import com.example.dopamines.global.common.annotation.Timer;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -38,9 +44,17 @@ import static com.example.dopamines.global.common.BaseResponseStatus.*;
 @Service
 @RequiredArgsConstructor
 public class FreePostService {
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+    private static final int MAX_SEARCH_SIZE = 100;
+    private static final int SNIPPET_LENGTH = 100;
+    private static final int COMMENT_PAGE_SIZE = 10;
+    private static final int RECOMMENT_PREVIEW_SIZE = 3;
+
     private final FreePostRepository freePostRepository;
+    private final FreePostSearchIndex freePostSearchIndex;
     private final FreeCommentService freeCommentService;
     private final FreePostImageRepository freePostImageRepository;
+    private final FreeLikeCounter freeLikeCounter;
 
     @Transactional
     public String create(User user, FreePostReq req, List<String> imageUrlList) {
@@ -61,7 +75,7 @@ public class FreePostService {
                 .createdAt(LocalDateTime.now())
                 .build()
         );
-
+        freePostSearchIndex.index(freePost);
 
         for (String url : imageUrlList) {
             freePostImageRepository.save(FreePostImage.builder()
@@ -77,7 +91,7 @@ public class FreePostService {
     @Timer
     public FreePostReadRes read(Long idx) {
         FreePost freePost = freePostRepository.findByIdWithAuthor(idx).orElseThrow(() -> new BaseException(BaseResponseStatus.COMMUNITY_BOARD_NOT_FOUND));
-        List<FreeCommentReadRes> freeComments = freeCommentService.findAllWithPage(idx, 0, 10);
+        List<FreeCommentReadRes> freeComments = freeCommentService.findAllWithRecomments(idx, 0, COMMENT_PAGE_SIZE, RECOMMENT_PREVIEW_SIZE);
 
         List<String> imageUrls = freePost.getImages().stream()
                 .map((url) -> url.getUrl())
@@ -90,7 +104,7 @@ public class FreePostService {
                 .author(freePost.getUser().getNickname())
                 .imageUrlList(imageUrls)
                 .created_at(LocalDateTime.now())
-                .likeCount(freePost.getLikesCount())
+                .likeCount(freeLikeCounter.withPending(FreeLikeCounter.Target.POST, freePost.getIdx(), freePost.getLikesCount()))
                 .freeCommentList(freeComments)
                 .build();
     }
@@ -133,6 +147,7 @@ public class FreePostService {
         freePost.setCreatedAt(LocalDateTime.now());
 
         freePostRepository.save(freePost);
+        freePostSearchIndex.index(freePost);
 
         return FreePostRes.builder()
                 .idx(freePost.getIdx())
@@ -150,6 +165,7 @@ public class FreePostService {
 
         try {
             freePostRepository.delete(freePost);
+            freePostSearchIndex.remove(idx);
         } catch (EntityNotFoundException e) {
             throw new BaseException(BaseResponseStatus.COMMUNITY_BOARD_NOT_FOUND);
         } catch (Exception e) {
@@ -160,19 +176,44 @@ public class FreePostService {
     }
 
 
-    public List<FreePostRes> search(Integer page, Integer size, String keyword) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "idx"));
-        Slice<FreePost> result = freePostRepository.search(pageable,keyword)
-                .orElseThrow(() -> new BaseException(BaseResponseStatus.COMMUNITY_BOARD_NOT_FOUND));
-        List<FreePostRes> freePostResList = new ArrayList<>();
+    // 색인이 준비되어 있으면 n-gram 색인에서 점수 순으로, 아니면 DB 에서 최신순으로 찾는다
+    // DB 검색 커서로 넘어온 다음 페이지는 색인 준비 여부와 관계없이 DB 로 이어서 조회
+    public FreePostSearchPageRes search(String cursor, Integer size, String keyword) {
+        int pageSize = (size == null || size <= 0) ? DEFAULT_SEARCH_SIZE : Math.min(size, MAX_SEARCH_SIZE);
+        SearchCursor last = SearchCursor.decode(cursor);
+        if (freePostSearchIndex.isReady() && keyword != null && !keyword.isBlank() && !last.isDbCursor()) {
+            return searchWithIndex(last.after(), pageSize, keyword);
+        }
 
-        for(FreePost freePost : result.getContent()){
-            freePostResList.add(FreePostRes.builder()
-                    .idx(freePost.getIdx())
-                    .title(freePost.getTitle())
-                    .content(freePost.getContent())
-                    .build());
+        // 색인 커서인데 이 노드의 색인이 아직 준비되지 않았으면 DB 검색 첫 페이지부터
+        Slice<FreePost> result = freePostRepository.search(last.lastIdx(), keyword, PageRequest.of(0, pageSize));
+        List<FreePostSearchRes> posts = result.stream()
+                .map((freePost) -> toSearchRes(freePost, keyword))
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (result.hasNext()) {
+            nextCursor = SearchCursor.of(result.getContent().get(result.getNumberOfElements() - 1).getIdx());
         }
-        return freePostResList;
+        return new FreePostSearchPageRes(posts, nextCursor);
+    }
+
+    // 색인에서 해당 페이지의 idx 만 뽑고 DB 에서는 그 게시글만 읽는다. 커서는 (점수, idx)
+    private FreePostSearchPageRes searchWithIndex(NgramInvertedIndex.Hit after, int size, String keyword) {
+        IndexSearchPage<FreePost> page = IndexSearchPage.load(
+                (from, limit) -> freePostSearchIndex.search(keyword, from, limit),
+                freePostRepository::findAllById, FreePost::getIdx, freePostSearchIndex::remove, after, size);
+        List<FreePostSearchRes> posts = page.items().stream()
+                .map((freePost) -> toSearchRes(freePost, keyword))
+                .collect(Collectors.toList());
+        return new FreePostSearchPageRes(posts, page.nextCursor());
+    }
+
+    private FreePostSearchRes toSearchRes(FreePost freePost, String keyword) {
+        return FreePostSearchRes.builder()
+                .idx(freePost.getIdx())
+                .title(SearchHighlighter.highlight(freePost.getTitle(), keyword))
+                .snippet(SearchHighlighter.snippet(freePost.getContent(), keyword, SNIPPET_LENGTH))
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -5,13 +5,20 @@ import com.example.dopamines.domain.board.community.free.model.entity.FreeCommen
 import com.example.dopamines.domain.board.community.free.model.entity.FreeRecomment;
 import com.example.dopamines.domain.board.community.free.model.request.FreeRecommentReq;
 import com.example.dopamines.domain.board.community.free.model.request.FreeRecommentUpdateReq;
+import com.example.dopamines.domain.board.community.free.model.response.FreeRecommentPageRes;
 import com.example.dopamines.domain.board.community.free.model.response.FreeRecommentReadRes;
 import com.example.dopamines.domain.board.community.free.repository.FreePostRepository;
 import com.example.dopamines.domain.board.community.free.repository.FreeCommentRepository;
 import com.example.dopamines.domain.board.community.free.repository.FreeRecommentRepository;
 import com.example.dopamines.domain.user.model.entity.User;
+import com.example.dopamines.domain.user.repository.UserRepository;
 import com.example.dopamines.global.common.BaseException;
+import com.example.dopamines.global.common.CursorToken;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import com.example.dopamines.global.common.BaseResponseStatus;
 import lombok.RequiredArgsConstructor;
@@ -29,9 +36,14 @@ import static com.example.dopamines.global.common.BaseResponseStatus.*;
 @Service
 @RequiredArgsConstructor
 public class FreeRecommentService {
+    private static final int DEFAULT_RECOMMENT_SIZE = 10;
+    private static final int MAX_RECOMMENT_SIZE = 100;
+
     private final FreeCommentRepository freeCommentRepository;
     private final FreePostRepository freePostRepository;
     private final FreeRecommentRepository freeRecommentRepository;
+    private final FreeLikeCounter freeLikeCounter;
+    private final UserRepository userRepository;
 
 
     @Transactional
@@ -93,7 +105,7 @@ public class FreeRecommentService {
                         .author(comment.getUser().getNickname())
                         .content(comment.getContent())
                         .createdAt(comment.getCreatedAt())
-                        .likeCount(comment.getLikesCount())
+                        .likeCount(freeLikeCounter.withPending(FreeLikeCounter.Target.RECOMMENT, comment.getIdx(), comment.getLikesCount()))
                         .freePostIdx(comment.getFreeComment().getFreePost().getIdx())
                         .commentIdx(comment.getIdx())
                         .build()
@@ -101,4 +113,68 @@ public class FreeRecommentService {
 
         return res;
     }
+
+    // 상세 조회에서 이어 받는 대댓글 (커서는 직전 응답의 recommentCursor / nextCursor)
+    public FreeRecommentPageRes findAllWithCursor(Long commentIdx, String cursor, Integer size) {
+        FreeComment freeComment = freeCommentRepository.findById(commentIdx).orElseThrow(()-> new BaseException(BaseResponseStatus.COMMUNITY_COMMENT_NOT_FOUND));
+        int pageSize = (size == null || size <= 0) ? DEFAULT_RECOMMENT_SIZE : Math.min(size, MAX_RECOMMENT_SIZE);
+        long[] last = CursorToken.decode(cursor);
+
+        Slice<FreeRecomment> recomments = freeRecommentRepository.findAllAfter(commentIdx, last == null ? null : last[0], PageRequest.of(0, pageSize));
+        Long postIdx = freeComment.getFreePost().getIdx();
+        List<FreeRecommentReadRes> res = recomments.stream()
+                .map((recomment) -> toReadRes(recomment, postIdx, commentIdx, recomment.getUser().getNickname()))
+                .collect(Collectors.toList());
+
+        String nextCursor = recomments.hasNext() ? CursorToken.encode(res.get(res.size() - 1).getIdx()) : null;
+        return new FreeRecommentPageRes(res, nextCursor);
+    }
+
+    // 댓글 한 페이지의 대댓글을 댓글마다 size 개씩 IN 쿼리 한 번으로 조회 (작성자 닉네임도 한 번에)
+    public Map<Long, FreeRecommentPageRes> findFirstByComments(Long postIdx, List<Long> commentIdxList, int size) {
+        if (commentIdxList.isEmpty()) {
+            return Map.of();
+        }
+        // 다음 대댓글이 있는지 알기 위해 하나 더 읽는다
+        List<FreeRecomment> recomments = freeRecommentRepository.findFirstByCommentIdxIn(commentIdxList, size + 1);
+
+        // 지연 로딩 프록시의 getIdx() 는 초기화 없이 FK 값만 돌려준다
+        Set<Long> authorIdxList = recomments.stream().map((recomment) -> recomment.getUser().getIdx()).collect(Collectors.toSet());
+        Map<Long, String> nicknames = new HashMap<>();
+        if (!authorIdxList.isEmpty()) {
+            for (Object[] row : userRepository.findNicknamesByIdxIn(authorIdxList)) {
+                nicknames.put((Long) row[0], (String) row[1]);
+            }
+        }
+
+        Map<Long, List<FreeRecommentReadRes>> byComment = new HashMap<>();
+        for (FreeRecomment recomment : recomments) {
+            Long commentIdx = recomment.getFreeComment().getIdx();
+            byComment.computeIfAbsent(commentIdx, (key) -> new ArrayList<>())
+                    .add(toReadRes(recomment, postIdx, commentIdx, nicknames.get(recomment.getUser().getIdx())));
+        }
+
+        Map<Long, FreeRecommentPageRes> result = new HashMap<>();
+        byComment.forEach((commentIdx, list) -> {
+            String nextCursor = null;
+            if (list.size() > size) {
+                list = list.subList(0, size);
+                nextCursor = CursorToken.encode(list.get(size - 1).getIdx());
+            }
+            result.put(commentIdx, new FreeRecommentPageRes(list, nextCursor));
+        });
+        return result;
+    }
+
+    private FreeRecommentReadRes toReadRes(FreeRecomment recomment, Long postIdx, Long commentIdx, String author) {
+        return FreeRecommentReadRes.builder()
+                .idx(recomment.getIdx())
+                .author(author)
+                .content(recomment.getContent())
+                .createdAt(recomment.getCreatedAt())
+                .likeCount(freeLikeCounter.withPending(FreeLikeCounter.Target.RECOMMENT, recomment.getIdx(), recomment.getLikesCount()))
+                .freePostIdx(postIdx)
+                .commentIdx(commentIdx)
+                .build();
+    }
 }
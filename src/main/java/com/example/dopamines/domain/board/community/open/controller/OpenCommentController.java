@@ -2,6 +2,7 @@ package com.example.dopamines.domain.board.community.open.controller;
 
 import com.example.dopamines.domain.board.community.open.model.request.OpenCommentReq;
 import com.example.dopamines.domain.board.community.open.model.request.OpenCommentUpdateReq;
+import com.example.dopamines.domain.board.community.open.model.response.OpenCommentPageRes;
 import com.example.dopamines.domain.board.community.open.service.OpenCommentService;
 import com.example.dopamines.domain.user.model.entity.User;
 import com.example.dopamines.global.common.BaseResponse;
@@ -12,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -33,6 +35,13 @@ public class OpenCommentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(new BaseResponse<>(response));
     }
 
+    // 게시글 상세의 commentCursor 로 이어서 조회
+    @GetMapping("/cursor")
+    public ResponseEntity<BaseResponse<?>> findAllWithCursor(Long idx, String cursor) {
+        OpenCommentPageRes res = openCommentService.findAllWithCursor(idx, cursor);
+        return ResponseEntity.ok(new BaseResponse<>(res));
+    }
+
     // 내가 쓴 댓글 조회
 //    @RequestMapping(method = RequestMethod.GET, value = "/read")
 //    public ResponseEntity<BaseResponse<?>> read(@AuthenticationPrincipal CustomUserDetails customUserDetails){
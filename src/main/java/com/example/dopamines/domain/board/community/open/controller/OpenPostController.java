@@ -4,6 +4,7 @@ import com.example.dopamines.domain.board.community.open.model.request.OpenPostR
 import com.example.dopamines.domain.board.community.open.model.request.OpenPostUpdateReq;
 import com.example.dopamines.domain.board.community.open.model.response.OpenPostReadRes;
 import com.example.dopamines.domain.board.community.open.model.response.OpenPostRes;
+import com.example.dopamines.domain.board.community.open.model.response.OpenPostSearchPageRes;
 import com.example.dopamines.domain.board.community.open.service.OpenPostService;
 import com.example.dopamines.domain.user.model.entity.User;
 import com.example.dopamines.global.common.BaseResponse;
@@ -65,9 +66,9 @@ public class OpenPostController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<BaseResponse<?>> search(@AuthenticationPrincipal CustomUserDetails customUserDetails,Integer page, Integer size,String keyword){
+    public ResponseEntity<BaseResponse<?>> search(@AuthenticationPrincipal CustomUserDetails customUserDetails,String cursor, Integer size,String keyword){
         User user = customUserDetails.getUser();
-        List<OpenPostRes> response = openPostService.search(page,size,keyword);
+        OpenPostSearchPageRes response = openPostService.search(cursor,size,keyword);
         return ResponseEntity.status(HttpStatus.OK).body(new BaseResponse<>(response));
     }
 }
@@ -2,6 +2,7 @@ package com.example.dopamines.domain.board.community.open.controller;
 
 import com.example.dopamines.domain.board.community.open.model.request.OpenRecommentReq;
 import com.example.dopamines.domain.board.community.open.model.request.OpenRecommentUpdateReq;
+import com.example.dopamines.domain.board.community.open.model.response.OpenRecommentPageRes;
 import com.example.dopamines.domain.board.community.open.service.OpenRecommentService;
 import com.example.dopamines.domain.user.model.entity.User;
 import com.example.dopamines.global.common.BaseResponse;
@@ -12,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -31,6 +33,13 @@ public class OpenRecommentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(new BaseResponse<>(response));
     }
 
+    // 게시글 상세의 recommentCursor 로 이어서 조회
+    @GetMapping("/cursor")
+    public ResponseEntity<BaseResponse<?>> findAllWithCursor(Long idx, String cursor, Integer size) {
+        OpenRecommentPageRes res = openRecommentService.findAllWithCursor(idx, cursor, size);
+        return ResponseEntity.ok(new BaseResponse<>(res));
+    }
+
     @PutMapping("/update")
     public ResponseEntity<BaseResponse<?>> update(@AuthenticationPrincipal CustomUserDetails customUserDetails,@RequestBody OpenRecommentUpdateReq req){
         User user = customUserDetails.getUser();
@@ -30,6 +30,11 @@ public class OpenComment {
     @JoinColumn(name = "post_idx")
     private OpenPost openPost;
 
+    // 좋아요 수 (OpenLikeService 에서 UPDATE ... + 1 로 관리, 조회 시 likes 컬렉션을 읽지 않기 위함)
+    // 엔티티 저장 시 읽어 둔 값으로 덮어쓰지 않도록 update 에서 제외
+    @Column(nullable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
+    private int likesCount;
+
     @OneToMany(mappedBy = "openComment")
     private List<OpenCommentLike> likes;
 
@@ -0,0 +1,12 @@
+package com.example.dopamines.domain.board.community.open.model.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OpenCommentPageRes {
+    private List<OpenCommentReadRes> comments;
+    private String nextCursor; // 다음 댓글 조회용 커서, 더 없으면 null
+}
@@ -16,5 +16,6 @@ public class OpenCommentReadRes {
     private LocalDateTime createdAt;
     private Integer likeCount;
     private List<OpenRecommentReadRes> recommentList;
+    private String recommentCursor; // 다음 대댓글 조회용 커서, 더 없으면 null
 
 }
@@ -21,4 +21,5 @@ public class OpenPostReadRes {
     private int likeCount;
 
     private List<OpenCommentReadRes> openCommentList;
+    private String commentCursor; // 다음 댓글 조회용 커서, 더 없으면 null
 }
@@ -0,0 +1,12 @@
+package com.example.dopamines.domain.board.community.open.model.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OpenPostSearchPageRes {
+    private List<OpenPostSearchRes> posts;
+    private String nextCursor; // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+}
@@ -0,0 +1,12 @@
+package com.example.dopamines.domain.board.community.open.model.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class OpenPostSearchRes {
+    private Long idx;
+    private String title; // 검색어 부분을 <em> 으로 감싼 제목 (HTML 이스케이프됨)
+    private String snippet; // 검색어 주변 본문 일부 (HTML 이스케이프됨)
+}
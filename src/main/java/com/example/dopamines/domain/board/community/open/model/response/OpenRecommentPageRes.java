@@ -0,0 +1,12 @@
+package com.example.dopamines.domain.board.community.open.model.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OpenRecommentPageRes {
+    private List<OpenRecommentReadRes> recomments;
+    private String nextCursor; // 다음 대댓글 조회용 커서, 더 없으면 null
+}
@@ -1,7 +1,27 @@
 package com.example.dopamines.domain.board.community.open.repository;
 
 import com.example.dopamines.domain.board.community.open.model.entity.OpenComment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface OpenCommentRepository extends JpaRepository<OpenComment,Long> {
+    @Query("SELECT c FROM OpenComment c WHERE c.openPost.idx = :postIdx")
+    Slice<OpenComment> findAllWithPaging(Pageable pageable, Long postIdx);
+
+    // 게시글 상세의 다음 댓글 (lastIdx 이후부터)
+    @Query("SELECT c FROM OpenComment c WHERE c.openPost.idx = :postIdx AND c.idx > :lastIdx ORDER BY c.idx ASC")
+    Slice<OpenComment> findAllAfter(Long postIdx, Long lastIdx, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OpenComment c SET c.likesCount = c.likesCount + :delta WHERE c.idx = :idx")
+    int increaseLikesCount(Long idx, int delta);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE open_comment t SET t.likes_count = (SELECT COUNT(*) FROM open_comment_like l WHERE l.comment_idx = t.idx)", nativeQuery = true)
+    int backfillLikesCount();
 }
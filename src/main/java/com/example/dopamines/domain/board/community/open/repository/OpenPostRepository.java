@@ -2,17 +2,40 @@ package com.example.dopamines.domain.board.community.open.repository;
 
 
 import com.example.dopamines.domain.board.community.open.model.entity.OpenPost;
+import com.example.dopamines.global.search.PostSearchDocument;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface OpenPostRepository extends JpaRepository<OpenPost, Long> {
     @Query("SELECT f FROM OpenPost f")
     Optional<Slice<OpenPost>> findAllWithPaging(Pageable pageable);
 
-    @Query("SELECT p FROM OpenPost p WHERE LOCATE(:keyword, p.title) > 0 OR LOCATE(:keyword, p.content) > 0")
-    Optional<Slice<OpenPost>> search(Pageable pageable, String keyword);
+    // 검색 색인이 준비되기 전 사용하는 DB 검색 (idx 기준 keyset)
+    @Query("SELECT p FROM OpenPost p WHERE (:lastIdx IS NULL OR p.idx < :lastIdx) "
+            + "AND (LOCATE(:keyword, p.title) > 0 OR LOCATE(:keyword, p.content) > 0) ORDER BY p.idx DESC")
+    Slice<OpenPost> search(Long lastIdx, String keyword, Pageable pageable);
+
+    // 검색 색인 적재용 (idx 오름차순으로 나눠 읽기, 색인에 쓰는 컬럼만)
+    @Query("SELECT new com.example.dopamines.global.search.PostSearchDocument(p.idx, p.title, p.content) "
+            + "FROM OpenPost p WHERE p.idx > :lastIdx ORDER BY p.idx ASC")
+    List<PostSearchDocument> findSearchDocumentsAfterIdx(Long lastIdx, Pageable pageable);
+
+    @Query("SELECT DISTINCT p FROM OpenPost p LEFT JOIN FETCH p.imageUrlList WHERE p.idx = :idx")
+    Optional<OpenPost> findByIdWithImages(Long idx);
+
+    @Modifying
+    @Query("UPDATE OpenPost p SET p.likesCount = p.likesCount + :delta WHERE p.idx = :idx")
+    int increaseLikesCount(Long idx, int delta);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE open_post t SET t.likes_count = (SELECT COUNT(*) FROM open_post_like l WHERE l.post_idx = t.idx)", nativeQuery = true)
+    int backfillLikesCount();
 }
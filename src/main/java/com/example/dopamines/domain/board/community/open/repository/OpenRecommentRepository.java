@@ -1,7 +1,33 @@
 package com.example.dopamines.domain.board.community.open.repository;
 
 import com.example.dopamines.domain.board.community.open.model.entity.OpenRecomment;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface OpenRecommentRepository extends JpaRepository<OpenRecomment,Long> {
+    // 댓글마다 앞에서부터 size 개씩만 한 번에 조회
+    @Query(value = "SELECT t.* FROM (SELECT r.*, ROW_NUMBER() OVER (PARTITION BY r.comment_idx ORDER BY r.idx) AS rn "
+            + "FROM open_recomment r WHERE r.comment_idx IN (:commentIdxList)) t "
+            + "WHERE t.rn <= :size ORDER BY t.comment_idx, t.idx", nativeQuery = true)
+    List<OpenRecomment> findFirstByCommentIdxIn(Collection<Long> commentIdxList, int size);
+
+    // 댓글의 다음 대댓글 (lastIdx 이후부터)
+    @Query("SELECT r FROM OpenRecomment r JOIN FETCH r.user JOIN FETCH r.openComment "
+            + "WHERE r.openComment.idx = :commentIdx AND r.idx > :lastIdx ORDER BY r.idx ASC")
+    Slice<OpenRecomment> findAllAfter(Long commentIdx, Long lastIdx, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OpenRecomment r SET r.likesCount = r.likesCount + :delta WHERE r.idx = :idx")
+    int increaseLikesCount(Long idx, int delta);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE open_recomment t SET t.likes_count = (SELECT COUNT(*) FROM open_recomment_like l WHERE l.recomment_idx = t.idx)", nativeQuery = true)
+    int backfillLikesCount();
 }
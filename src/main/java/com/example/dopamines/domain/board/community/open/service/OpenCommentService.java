@@ -4,6 +4,7 @@ import com.example.dopamines.domain.board.community.open.model.entity.OpenCommen
 import com.example.dopamines.domain.board.community.open.model.entity.OpenPost;
 import com.example.dopamines.domain.board.community.open.model.request.OpenCommentReq;
 import com.example.dopamines.domain.board.community.open.model.request.OpenCommentUpdateReq;
+import com.example.dopamines.domain.board.community.open.model.response.OpenCommentPageRes;
 import com.example.dopamines.domain.board.community.open.repository.OpenCommentRepository;
 import com.example.dopamines.domain.board.community.open.repository.OpenPostRepository;
 import com.example.dopamines.domain.board.community.open.repository.OpenRecommentRepository;
@@ -22,6 +23,7 @@ public class OpenCommentService {
     private final OpenCommentRepository openCommentRepository;
     private final OpenPostRepository openPostRepository;
     private final OpenRecommentRepository openRecommentRepository;
+    private final OpenPostDetailReader openPostDetailReader;
 
     @Transactional
     public String create(User user, OpenCommentReq req) {
@@ -91,4 +93,9 @@ public class OpenCommentService {
             return "댓글 삭제 완료";
         }
     }
-}
\ No newline at end of file
+
+    // 게시글 상세의 commentCursor 로 이어서 조회
+    public OpenCommentPageRes findAllWithCursor(Long postIdx, String cursor) {
+        return openPostDetailReader.readComments(postIdx, cursor);
+    }
+}
@@ -6,8 +6,16 @@ import com.example.dopamines.domain.user.model.entity.User;
 import com.example.dopamines.global.common.BaseException;
 import com.example.dopamines.global.common.BaseResponseStatus;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class OpenLikeService {
@@ -18,61 +26,75 @@ public class OpenLikeService {
     private final OpenRecommentRepository openRecommentRepository;
     private final OpenRecommentLikeRepository openRecommentLikeRepository;
 
+    @Value("${open.like.backfill-on-startup:false}")
+    private boolean backfillOnStartup;
+
+    // likes_count 컬럼 도입 시 한 번만 켜서 기존 좋아요 수를 채운다
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillLikesCount() {
+        if (backfillOnStartup) {
+            int posts = openPostRepository.backfillLikesCount();
+            int comments = openCommentRepository.backfillLikesCount();
+            int recomments = openRecommentRepository.backfillLikesCount();
+            log.info("[OPEN][LIKES COUNT BACKFILL] => posts: {}, comments: {}, recomments: {}", posts, comments, recomments);
+        }
+    }
 
+    // 좋아요 등록/취소와 likes_count 증감을 한 트랜잭션에서 처리
+    @Transactional
     public String createOpenPostLike(User user, Long idx) {
-        OpenPostLike result = openPostLikeRepository.findByUserAndOpenPost(user.getIdx(), idx)
-                .orElseThrow(() -> new BaseException(BaseResponseStatus.COMMUNITY_POST_LIKE_FAILED));
-        OpenPostLike openPostLike;
+        Optional<OpenPostLike> result = openPostLikeRepository.findByUserAndOpenPost(user.getIdx(), idx);
 
-        if(result != null){ // 이미 좋아요한 경우
-            openPostLikeRepository.delete(result);
+        if(result.isPresent()){ // 이미 좋아요한 경우
+            openPostLikeRepository.delete(result.get());
+            openPostRepository.increaseLikesCount(idx, -1);
             return "자유 게시글 좋아요 취소";
         }
 
         OpenPost openPost = openPostRepository.findById(idx).orElseThrow(() -> new BaseException(BaseResponseStatus.COMMUNITY_BOARD_NOT_FOUND));
-        openPostLike = OpenPostLike.builder()
+        openPostLikeRepository.save(OpenPostLike.builder()
                 .user(user)
                 .openPost(openPost)
-                .build();
-        openPostLikeRepository.save(openPostLike);
+                .build());
+        openPostRepository.increaseLikesCount(idx, 1);
         return "자유 게시글 좋아요 등록";
     }
 
+    @Transactional
     public String createCommentLike(User user, Long idx) {
-        OpenCommentLike result = openCommentLikeRepository.findByUserAndIdx(user.getIdx(),idx)
-                .orElseThrow(() -> new BaseException(BaseResponseStatus.COMMUNITY_COMMENT_LIKE_FAILED));
-        OpenCommentLike openCommentLike;
+        Optional<OpenCommentLike> result = openCommentLikeRepository.findByUserAndIdx(user.getIdx(),idx);
 
-        if(result != null){ // 이미 좋아요한 경우
-            openCommentLikeRepository.delete(result);
+        if(result.isPresent()){ // 이미 좋아요한 경우
+            openCommentLikeRepository.delete(result.get());
+            openCommentRepository.increaseLikesCount(idx, -1);
             return "자유 게시글 댓글 좋아요 취소";
         }
 
         OpenComment openComment = openCommentRepository.findById(idx).orElseThrow(() -> new BaseException(BaseResponseStatus.COMMUNITY_COMMENT_NOT_FOUND));
-        openCommentLike = OpenCommentLike.builder()
+        openCommentLikeRepository.save(OpenCommentLike.builder()
                 .user(user)
                 .openComment(openComment)
-                .build();
-        openCommentLikeRepository.save(openCommentLike);
+                .build());
+        openCommentRepository.increaseLikesCount(idx, 1);
         return "자유 게시글 댓글 좋아요 등록";
     }
 
+    @Transactional
     public String createRecommentLike(User user, Long idx) {
-        OpenRecommentLike result = openRecommentLikeRepository.findByUserAndIdx(user.getIdx(),idx)
-                .orElseThrow(() -> new BaseException(BaseResponseStatus.COMMUNITY_COMMENT_LIKE_FAILED));
-        OpenRecommentLike openRecommentLike;
+        Optional<OpenRecommentLike> result = openRecommentLikeRepository.findByUserAndIdx(user.getIdx(),idx);
 
-        if(result != null){ // 이미 좋아요한 경우
-            openRecommentLikeRepository.delete(result);
+        if(result.isPresent()){ // 이미 좋아요한 경우
+            openRecommentLikeRepository.delete(result.get());
+            openRecommentRepository.increaseLikesCount(idx, -1);
             return "자유 게시글 대댓글 좋아요 취소";
         }
 
         OpenRecomment openRecomment = openRecommentRepository.findById(idx).orElseThrow(() -> new BaseException(BaseResponseStatus.COMMUNITY_RECOMMENT_NOT_FOUND));
-        openRecommentLike = OpenRecommentLike.builder()
+        openRecommentLikeRepository.save(OpenRecommentLike.builder()
                 .user(user)
                 .openRecomment(openRecomment)
-                .build();
-        openRecommentLikeRepository.save(openRecommentLike);
+                .build());
+        openRecommentRepository.increaseLikesCount(idx, 1);
         return "자유 게시글 대댓글 좋아요 등록";
     }
 }
@@ -0,0 +1,169 @@
+package com.example.dopamines.domain.board.community.open.service;
+
+import com.example.dopamines.domain.board.community.open.model.entity.OpenComment;
+import com.example.dopamines.domain.board.community.open.model.entity.OpenPost;
+import com.example.dopamines.domain.board.community.open.model.entity.OpenRecomment;
+import com.example.dopamines.domain.board.community.open.model.response.OpenCommentPageRes;
+import com.example.dopamines.domain.board.community.open.model.response.OpenCommentReadRes;
+import com.example.dopamines.domain.board.community.open.model.response.OpenPostReadRes;
+import com.example.dopamines.domain.board.community.open.model.response.OpenRecommentPageRes;
+import com.example.dopamines.domain.board.community.open.model.response.OpenRecommentReadRes;
+import com.example.dopamines.domain.board.community.open.repository.OpenCommentRepository;
+import com.example.dopamines.domain.board.community.open.repository.OpenPostRepository;
+import com.example.dopamines.domain.board.community.open.repository.OpenRecommentRepository;
+import com.example.dopamines.domain.user.repository.UserRepository;
+import com.example.dopamines.global.common.BaseException;
+import com.example.dopamines.global.common.BaseResponseStatus;
+import com.example.dopamines.global.common.CursorToken;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 공개 게시판 게시글 상세 (게시글 - 댓글 한 페이지 - 댓글별 앞쪽 대댓글) 조회.
+ * 연관관계를 따라가며 지연 로딩하지 않고, 아래 4번의 쿼리로 읽은 뒤 메모리에서 트리를 조립한다.
+ * 1. 게시글 + 이미지  2. 댓글 한 페이지  3. 댓글 idx 목록으로 댓글별 대댓글 K 개  4. 작성자 idx 목록으로 닉네임
+ * 잘린 댓글/대댓글은 응답의 commentCursor / recommentCursor 로 이어서 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OpenPostDetailReader {
+    private static final int COMMENT_PAGE_SIZE = 10;
+    private static final int RECOMMENT_PREVIEW_SIZE = 5;
+    private static final int MAX_RECOMMENT_PAGE_SIZE = 100;
+
+    private final OpenPostRepository openPostRepository;
+    private final OpenCommentRepository openCommentRepository;
+    private final OpenRecommentRepository openRecommentRepository;
+    private final UserRepository userRepository;
+
+    @Transactional(readOnly = true)
+    public OpenPostReadRes read(Long idx) {
+        OpenPost openPost = openPostRepository.findByIdWithImages(idx)
+                .orElseThrow(() -> new BaseException(BaseResponseStatus.COMMUNITY_BOARD_NOT_FOUND));
+
+        Slice<OpenComment> comments = openCommentRepository.findAllWithPaging(
+                PageRequest.of(0, COMMENT_PAGE_SIZE, Sort.by(Sort.Direction.ASC, "idx")), idx);
+        CommentPage commentPage = toCommentPage(idx, comments, openPost.getUser().getIdx());
+
+        return OpenPostReadRes.builder()
+                .idx(openPost.getIdx())
+                .title(openPost.getTitle())
+                .content(openPost.getContent())
+                .author(commentPage.postAuthor())
+                .imageUrlList(openPost.getImageUrlList())
+                .created_at(openPost.getCreatedAt())
+                .likeCount(openPost.getLikesCount())
+                .openCommentList(commentPage.comments())
+                .commentCursor(commentPage.nextCursor())
+                .build();
+    }
+
+    // 게시글 상세의 commentCursor 로 이어 받는 댓글 (댓글별 앞쪽 대댓글과 recommentCursor 포함)
+    @Transactional(readOnly = true)
+    public OpenCommentPageRes readComments(Long postIdx, String cursor) {
+        Slice<OpenComment> comments = openCommentRepository.findAllAfter(postIdx, lastIdxOf(cursor), PageRequest.of(0, COMMENT_PAGE_SIZE));
+        CommentPage commentPage = toCommentPage(postIdx, comments, null);
+        return new OpenCommentPageRes(commentPage.comments(), commentPage.nextCursor());
+    }
+
+    // 댓글의 recommentCursor 로 이어 받는 대댓글
+    @Transactional(readOnly = true)
+    public OpenRecommentPageRes readRecomments(Long commentIdx, String cursor, Integer size) {
+        int pageSize = (size == null || size <= 0) ? RECOMMENT_PREVIEW_SIZE : Math.min(size, MAX_RECOMMENT_PAGE_SIZE);
+        Slice<OpenRecomment> recomments = openRecommentRepository.findAllAfter(commentIdx, lastIdxOf(cursor), PageRequest.of(0, pageSize));
+
+        List<OpenRecommentReadRes> res = recomments.stream()
+                .map((recomment) -> toRecommentRes(recomment, recomment.getOpenComment().getOpenPost().getIdx(), recomment.getUser().getNickname()))
+                .toList();
+        String nextCursor = recomments.hasNext() ? CursorToken.encode(res.get(res.size() - 1).getIdx()) : null;
+        return new OpenRecommentPageRes(res, nextCursor);
+    }
+
+    // 댓글 한 페이지에 댓글별 대댓글 K 개(다음이 있는지 알기 위해 하나 더 읽음)와 작성자 닉네임을 붙인다
+    private CommentPage toCommentPage(Long postIdx, Slice<OpenComment> commentSlice, Long postAuthorIdx) {
+        List<OpenComment> comments = commentSlice.getContent();
+        List<Long> commentIdxList = comments.stream().map(OpenComment::getIdx).toList();
+        List<OpenRecomment> recomments = commentIdxList.isEmpty()
+                ? List.of()
+                : openRecommentRepository.findFirstByCommentIdxIn(commentIdxList, RECOMMENT_PREVIEW_SIZE + 1);
+
+        // 지연 로딩 프록시의 getIdx() 는 초기화 없이 FK 값만 돌려준다
+        Set<Long> authorIdxList = new HashSet<>();
+        if (postAuthorIdx != null) {
+            authorIdxList.add(postAuthorIdx);
+        }
+        comments.forEach((comment) -> authorIdxList.add(comment.getUser().getIdx()));
+        recomments.forEach((recomment) -> authorIdxList.add(recomment.getUser().getIdx()));
+        Map<Long, String> nicknames = authorIdxList.isEmpty() ? Map.of() : findNicknames(authorIdxList);
+
+        Map<Long, List<OpenRecommentReadRes>> recommentsByComment = new HashMap<>();
+        for (OpenRecomment recomment : recomments) {
+            Long commentIdx = recomment.getOpenComment().getIdx();
+            recommentsByComment.computeIfAbsent(commentIdx, (key) -> new ArrayList<>())
+                    .add(toRecommentRes(recomment, postIdx, nicknames.get(recomment.getUser().getIdx())));
+        }
+
+        List<OpenCommentReadRes> openCommentReadResList = new ArrayList<>();
+        for (OpenComment comment : comments) {
+            List<OpenRecommentReadRes> recommentList = recommentsByComment.getOrDefault(comment.getIdx(), List.of());
+            String recommentCursor = null;
+            if (recommentList.size() > RECOMMENT_PREVIEW_SIZE) {
+                recommentList = recommentList.subList(0, RECOMMENT_PREVIEW_SIZE);
+                recommentCursor = CursorToken.encode(recommentList.get(RECOMMENT_PREVIEW_SIZE - 1).getIdx());
+            }
+            openCommentReadResList.add(OpenCommentReadRes.builder()
+                    .idx(comment.getIdx())
+                    .openPostIdx(postIdx)
+                    .content(comment.getContent())
+                    .author(nicknames.get(comment.getUser().getIdx()))
+                    .createdAt(comment.getCreatedAt())
+                    .likeCount(comment.getLikesCount())
+                    .recommentList(recommentList)
+                    .recommentCursor(recommentCursor)
+                    .build());
+        }
+
+        String nextCursor = commentSlice.hasNext() ? CursorToken.encode(comments.get(comments.size() - 1).getIdx()) : null;
+        return new CommentPage(openCommentReadResList, nextCursor, postAuthorIdx == null ? null : nicknames.get(postAuthorIdx));
+    }
+
+    private OpenRecommentReadRes toRecommentRes(OpenRecomment recomment, Long postIdx, String author) {
+        return OpenRecommentReadRes.builder()
+                .idx(recomment.getIdx())
+                .openPostIdx(postIdx)
+                .commentIdx(recomment.getOpenComment().getIdx())
+                .content(recomment.getContent())
+                .author(author)
+                .createdAt(recomment.getCreatedAt())
+                .likeCount(recomment.getLikesCount())
+                .build();
+    }
+
+    // 첫 페이지(커서 없음)면 0 - 댓글/대댓글은 idx 오름차순
+    private long lastIdxOf(String cursor) {
+        long[] last = CursorToken.decode(cursor);
+        return last == null ? 0L : last[0];
+    }
+
+    private Map<Long, String> findNicknames(Set<Long> userIdxList) {
+        Map<Long, String> nicknames = new HashMap<>();
+        for (Object[] row : userRepository.findNicknamesByIdxIn(userIdxList)) {
+            nicknames.put((Long) row[0], (String) row[1]);
+        }
+        return nicknames;
+    }
+
+    // 댓글 한 페이지 조립 결과 (게시글 상세에서는 게시글 작성자 닉네임도 같은 쿼리로 함께 읽는다)
+    private record CommentPage(List<OpenCommentReadRes> comments, String nextCursor, String postAuthor) {
+    }
+}
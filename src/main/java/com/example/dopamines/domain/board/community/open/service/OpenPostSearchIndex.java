@@ -0,0 +1,58 @@
+package com.example.dopamines.domain.board.community.open.service;
+
+import com.example.dopamines.domain.board.community.open.model.entity.OpenPost;
+import com.example.dopamines.domain.board.community.open.repository.OpenPostRepository;
+import com.example.dopamines.global.search.PostSearchDocument;
+import com.example.dopamines.global.search.PostSearchIndex;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// /open/post/search 용 메모리 역색인
+@Component
+@RequiredArgsConstructor
+public class OpenPostSearchIndex extends PostSearchIndex<OpenPost> {
+    private final OpenPostRepository openPostRepository;
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        super.build();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${open.search.refresh-ms:10000}")
+    public void refresh() {
+        super.refresh();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${open.search.reconcile-ms:600000}", initialDelayString = "${open.search.reconcile-ms:600000}")
+    public void reconcile() {
+        super.reconcile();
+    }
+
+    @Override
+    protected List<PostSearchDocument> loadAfter(long lastIdx, int size) {
+        return openPostRepository.findSearchDocumentsAfterIdx(lastIdx, PageRequest.of(0, size));
+    }
+
+    @Override
+    protected Long idxOf(OpenPost post) {
+        return post.getIdx();
+    }
+
+    @Override
+    protected String titleOf(OpenPost post) {
+        return post.getTitle();
+    }
+
+    @Override
+    protected String contentOf(OpenPost post) {
+        return post.getContent();
+    }
+}
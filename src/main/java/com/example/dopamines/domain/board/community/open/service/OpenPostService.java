@@ -1,18 +1,20 @@
 package com.example.dopamines.domain.board.community.open.service;
 
-import com.example.dopamines.domain.board.community.open.model.entity.OpenComment;
 import com.example.dopamines.domain.board.community.open.model.entity.OpenPost;
-import com.example.dopamines.domain.board.community.open.model.entity.OpenRecomment;
 import com.example.dopamines.domain.board.community.open.model.request.OpenPostReq;
 import com.example.dopamines.domain.board.community.open.model.request.OpenPostUpdateReq;
-import com.example.dopamines.domain.board.community.open.model.response.OpenCommentReadRes;
 import com.example.dopamines.domain.board.community.open.model.response.OpenPostReadRes;
 import com.example.dopamines.domain.board.community.open.model.response.OpenPostRes;
-import com.example.dopamines.domain.board.community.open.model.response.OpenRecommentReadRes;
+import com.example.dopamines.domain.board.community.open.model.response.OpenPostSearchPageRes;
+import com.example.dopamines.domain.board.community.open.model.response.OpenPostSearchRes;
 import com.example.dopamines.domain.board.community.open.repository.OpenPostRepository;
 import com.example.dopamines.domain.user.model.entity.User;
 import com.example.dopamines.global.common.BaseException;
 import com.example.dopamines.global.common.BaseResponseStatus;
+import com.example.dopamines.global.search.IndexSearchPage;
+import com.example.dopamines.global.search.NgramInvertedIndex;
+import com.example.dopamines.global.search.SearchCursor;
+import com.example.dopamines.global.search.SearchHighlighter;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -25,13 +27,20 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.example.dopamines.global.common.BaseResponseStatus.*;
 
 @Service
 @RequiredArgsConstructor
 public class OpenPostService {
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+    private static final int MAX_SEARCH_SIZE = 100;
+    private static final int SNIPPET_LENGTH = 100;
+
     private final OpenPostRepository openPostRepository;
+    private final OpenPostSearchIndex openPostSearchIndex;
+    private final OpenPostDetailReader openPostDetailReader;
 
     @Transactional
     public String create(User user, OpenPostReq req, List<String> imageUrlList) {
@@ -50,49 +59,13 @@ public class OpenPostService {
                 .createdAt(LocalDateTime.now())
                 .build()
         );
+        openPostSearchIndex.index(openPost);
 
         return "자유 게시판 게시글 등록";
     }
 
     public OpenPostReadRes read(Long idx) {
-        OpenPost openPost = openPostRepository.findById(idx).orElseThrow(() -> new BaseException(BaseResponseStatus.COMMUNITY_BOARD_NOT_FOUND));
-
-        List<OpenCommentReadRes> openCommentReadResList = new ArrayList<>();
-        for(OpenComment openComment : openPost.getComments()){
-            List<OpenRecommentReadRes> openRecommentReadResList = new ArrayList<>();
-            for(OpenRecomment openRecomment : openComment.getOpenRecomments()){
-                openRecommentReadResList.add(OpenRecommentReadRes.builder()
-                        .idx(openRecomment.getIdx())
-                        .openPostIdx(openPost.getIdx())
-                        .commentIdx(openRecomment.getOpenComment().getIdx())
-                        .content(openRecomment.getContent())
-                        .author(openRecomment.getUser().getNickname())
-                        .createdAt(openRecomment.getCreatedAt())
-                        .likeCount(openRecomment.getLikes().size())
-                        .build());
-            }
-            openCommentReadResList.add(OpenCommentReadRes.builder()
-                    .idx(openComment.getIdx())
-                    .openPostIdx(openPost.getIdx())
-                    .content(openComment.getContent())
-                    .author(openComment.getUser().getNickname())
-                    .createdAt(openComment.getCreatedAt())
-                    .likeCount(openComment.getLikes().size())
-                    .recommentList(openRecommentReadResList)
-                    .build());
-
-        }
-
-        return OpenPostReadRes.builder()
-                .idx(openPost.getIdx())
-                .title(openPost.getTitle())
-                .content(openPost.getContent())
-                .author(openPost.getUser().getNickname())
-                .imageUrlList(openPost.getImageUrlList())
-                .created_at(LocalDateTime.now())
-                .likeCount(openPost.getLikes().size())
-                .openCommentList(openCommentReadResList)
-                .build();
+        return openPostDetailReader.read(idx);
     }
 
     public List<OpenPostRes> readAll(Integer page, Integer size) {
@@ -123,6 +96,7 @@ public class OpenPostService {
         openPost.setCreatedAt(LocalDateTime.now());
 
         openPostRepository.save(openPost);
+        openPostSearchIndex.index(openPost);
 
         return OpenPostRes.builder()
                 .idx(openPost.getIdx())
@@ -140,6 +114,7 @@ public class OpenPostService {
 
         try {
             openPostRepository.delete(openPost);
+            openPostSearchIndex.remove(idx);
         } catch (EntityNotFoundException e) {
             throw new BaseException(BaseResponseStatus.COMMUNITY_BOARD_NOT_FOUND);
         } catch (Exception e) {
@@ -150,19 +125,44 @@ public class OpenPostService {
     }
 
 
-    public List<OpenPostRes> search(Integer page, Integer size, String keyword) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "idx"));
-        Slice<OpenPost> result = openPostRepository.search(pageable,keyword)
-                .orElseThrow(() -> new BaseException(BaseResponseStatus.COMMUNITY_BOARD_NOT_FOUND));
-        List<OpenPostRes> openPostResList = new ArrayList<>();
+    // 색인이 준비되어 있으면 n-gram 색인에서 점수 순으로, 아니면 DB 에서 최신순으로 찾는다
+    // DB 검색 커서로 넘어온 다음 페이지는 색인 준비 여부와 관계없이 DB 로 이어서 조회
+    public OpenPostSearchPageRes search(String cursor, Integer size, String keyword) {
+        int pageSize = (size == null || size <= 0) ? DEFAULT_SEARCH_SIZE : Math.min(size, MAX_SEARCH_SIZE);
+        SearchCursor last = SearchCursor.decode(cursor);
+        if (openPostSearchIndex.isReady() && keyword != null && !keyword.isBlank() && !last.isDbCursor()) {
+            return searchWithIndex(last.after(), pageSize, keyword);
+        }
 
-        for(OpenPost openPost : result.getContent()){
-            openPostResList.add(OpenPostRes.builder()
-                    .idx(openPost.getIdx())
-                    .title(openPost.getTitle())
-                    .content(openPost.getContent())
-                    .build());
+        // 색인 커서인데 이 노드의 색인이 아직 준비되지 않았으면 DB 검색 첫 페이지부터
+        Slice<OpenPost> result = openPostRepository.search(last.lastIdx(), keyword, PageRequest.of(0, pageSize));
+        List<OpenPostSearchRes> posts = result.stream()
+                .map((openPost) -> toSearchRes(openPost, keyword))
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (result.hasNext()) {
+            nextCursor = SearchCursor.of(result.getContent().get(result.getNumberOfElements() - 1).getIdx());
         }
-        return openPostResList;
+        return new OpenPostSearchPageRes(posts, nextCursor);
+    }
+
+    // 색인에서 해당 페이지의 idx 만 뽑고 DB 에서는 그 게시글만 읽는다. 커서는 (점수, idx)
+    private OpenPostSearchPageRes searchWithIndex(NgramInvertedIndex.Hit after, int size, String keyword) {
+        IndexSearchPage<OpenPost> page = IndexSearchPage.load(
+                (from, limit) -> openPostSearchIndex.search(keyword, from, limit),
+                openPostRepository::findAllById, OpenPost::getIdx, openPostSearchIndex::remove, after, size);
+        List<OpenPostSearchRes> posts = page.items().stream()
+                .map((openPost) -> toSearchRes(openPost, keyword))
+                .collect(Collectors.toList());
+        return new OpenPostSearchPageRes(posts, page.nextCursor());
+    }
+
+    private OpenPostSearchRes toSearchRes(OpenPost openPost, String keyword) {
+        return OpenPostSearchRes.builder()
+                .idx(openPost.getIdx())
+                .title(SearchHighlighter.highlight(openPost.getTitle(), keyword))
+                .snippet(SearchHighlighter.snippet(openPost.getContent(), keyword, SNIPPET_LENGTH))
+                .build();
     }
 }
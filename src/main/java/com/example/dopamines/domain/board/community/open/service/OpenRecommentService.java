@@ -5,6 +5,7 @@ import com.example.dopamines.domain.board.community.open.model.entity.OpenPost;
 import com.example.dopamines.domain.board.community.open.model.entity.OpenRecomment;
 import com.example.dopamines.domain.board.community.open.model.request.OpenRecommentReq;
 import com.example.dopamines.domain.board.community.open.model.request.OpenRecommentUpdateReq;
+import com.example.dopamines.domain.board.community.open.model.response.OpenRecommentPageRes;
 import com.example.dopamines.domain.board.community.open.repository.OpenCommentRepository;
 import com.example.dopamines.domain.board.community.open.repository.OpenPostRepository;
 import com.example.dopamines.domain.board.community.open.repository.OpenRecommentRepository;
@@ -25,6 +26,7 @@ public class OpenRecommentService {
     private final OpenCommentRepository openCommentRepository;
     private final OpenPostRepository openPostRepository;
     private final OpenRecommentRepository openRecommentRepository;
+    private final OpenPostDetailReader openPostDetailReader;
 
 
     @Transactional
@@ -75,4 +77,9 @@ public class OpenRecommentService {
             return "대댓글 삭제 완료";
         }
     }
+
+    // 게시글 상세의 recommentCursor 로 이어서 조회
+    public OpenRecommentPageRes findAllWithCursor(Long commentIdx, String cursor, Integer size) {
+        return openPostDetailReader.readRecomments(commentIdx, cursor, size);
+    }
 }
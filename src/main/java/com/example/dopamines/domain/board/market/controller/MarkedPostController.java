@@ -1,12 +1,11 @@
 package com.example.dopamines.domain.board.market.controller;
 
-import com.example.dopamines.domain.board.market.model.response.MarketReadRes;
+import com.example.dopamines.domain.board.market.model.response.MarketPageRes;
 import com.example.dopamines.domain.board.market.service.MarkedService;
 import com.example.dopamines.domain.user.model.entity.User;
 import com.example.dopamines.global.common.BaseResponse;
 import com.example.dopamines.global.common.annotation.CheckAuthentication;
 import com.example.dopamines.global.security.CustomUserDetails;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -33,9 +32,9 @@ public class MarkedPostController {
 
     @GetMapping
     @CheckAuthentication
-    public ResponseEntity<BaseResponse<List<MarketReadRes>>> findAll(@AuthenticationPrincipal CustomUserDetails customUserDetails, Integer page, Integer size) {
+    public ResponseEntity<BaseResponse<MarketPageRes>> findAll(@AuthenticationPrincipal CustomUserDetails customUserDetails, String cursor, Integer size) {
         User user = customUserDetails.getUser();
-        List<MarketReadRes> posts = markedService.findAll(user, page, size);
+        MarketPageRes posts = markedService.findAll(user, cursor, size);
         return ResponseEntity.ok(new BaseResponse(posts));
     }
 }
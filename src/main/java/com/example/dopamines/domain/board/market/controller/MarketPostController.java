@@ -3,12 +3,16 @@ package com.example.dopamines.domain.board.market.controller;
 import static com.example.dopamines.global.common.BaseResponseStatus.UNAUTHORIZED_ACCESS;
 
 import com.example.dopamines.domain.board.market.model.request.MarketCreateReq;
+import com.example.dopamines.domain.board.market.model.request.MarketStatusUpdateReq;
+import com.example.dopamines.domain.board.market.model.response.MarketCacheStatsRes;
 import com.example.dopamines.domain.board.market.model.response.MarketDetailRes;
+import com.example.dopamines.domain.board.market.model.response.MarketPageRes;
 import com.example.dopamines.domain.board.market.model.response.MarketReadRes;
 import com.example.dopamines.domain.board.market.service.MarkedService;
 import com.example.dopamines.domain.board.market.service.MarketService;
 import com.example.dopamines.domain.user.model.entity.User;
 import com.example.dopamines.global.common.BaseResponse;
+import com.example.dopamines.global.common.annotation.CheckAdmin;
 import com.example.dopamines.global.common.annotation.CheckAuthentication;
 import com.example.dopamines.global.infra.s3.CloudFileUploadService;
 import com.example.dopamines.global.security.CustomUserDetails;
@@ -21,6 +25,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
@@ -48,8 +53,9 @@ public class MarketPostController {
     }
 
     @GetMapping
-    public ResponseEntity<BaseResponse<List<MarketReadRes>>> findAll(Integer page, Integer size) {
-        List<MarketReadRes> posts = marketService.findAll(page, size);
+    public ResponseEntity<BaseResponse<MarketPageRes>> findAll(@AuthenticationPrincipal CustomUserDetails customUserDetails, String cursor, Integer size) {
+        User user = customUserDetails == null ? null : customUserDetails.getUser();
+        MarketPageRes posts = marketService.findAll(user, cursor, size);
         return ResponseEntity.ok(new BaseResponse(posts));
     }
 
@@ -65,18 +71,33 @@ public class MarketPostController {
         return ResponseEntity.ok(new BaseResponse(post));
     }
 
+    @GetMapping("/cache/stats")
+    @CheckAdmin
+    public ResponseEntity<BaseResponse<MarketCacheStatsRes>> getCacheStats() {
+        return ResponseEntity.ok(new BaseResponse<>(marketService.getCacheStats()));
+    }
+
     @GetMapping("/search")
-    public ResponseEntity<BaseResponse<List<MarketReadRes>>> search(Integer page, Integer size, String keyword, Integer minPrice, Integer maxPrice) {
-        List<MarketReadRes> result = marketService.search(page, size, keyword, minPrice, maxPrice);
+    public ResponseEntity<BaseResponse<MarketPageRes>> search(String cursor, Integer size, String keyword, Integer minPrice, Integer maxPrice) {
+        MarketPageRes result = marketService.search(cursor, size, keyword, minPrice, maxPrice);
         return ResponseEntity.ok(new BaseResponse(result));
     }
 
     @PatchMapping("/{idx}/status")
-    public ResponseEntity updateStatus(@PathVariable("idx") Long idx) {
-        marketService.updateStatus(idx);
+    @CheckAuthentication
+    public ResponseEntity updateStatus(@AuthenticationPrincipal CustomUserDetails customUserDetails, @PathVariable("idx") Long idx) {
+        marketService.updateStatus(customUserDetails.getUser(), idx);
         return ResponseEntity.ok("");
     }
 
+    @PatchMapping("/status")
+    @CheckAuthentication
+    public ResponseEntity<BaseResponse<Integer>> updateStatus(@AuthenticationPrincipal CustomUserDetails customUserDetails, @RequestBody MarketStatusUpdateReq req) {
+        User user = customUserDetails.getUser();
+        int updated = marketService.updateStatus(user, req.getIdxList());
+        return ResponseEntity.ok(new BaseResponse<>(updated));
+    }
+
     @DeleteMapping("/{idx}")
     @CheckAuthentication
     public ResponseEntity<?> delete(@AuthenticationPrincipal CustomUserDetails customUserDetails, @PathVariable("idx") Long idx) {
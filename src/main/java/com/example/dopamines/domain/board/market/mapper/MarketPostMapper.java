@@ -23,13 +23,19 @@ public interface MarketPostMapper {
             @Mapping(target = "idx", ignore = true),
             @Mapping(target = "createdAt", expression = "java(LocalDate.now())"),
             @Mapping(target = "updatedAt", expression = "java(LocalDate.now())"),
-            @Mapping(target = "status", constant = "false")
+            @Mapping(target = "status", constant = "false"),
+            @Mapping(target = "thumbnailImage", ignore = true),
+            @Mapping(target = "webpImage", ignore = true),
+            @Mapping(target = "markedCount", ignore = true)
     })
     MarketPost toEntity(String mainImage, MarketCreateReq dto, User user);
 
+    @Mapping(target = "marked", ignore = true)
     MarketReadRes toDto(MarketPost entity, String author);
     @Mapping(source = "entity.images", target = "images")
+    @Mapping(target = "marked", ignore = true)
     MarketDetailRes toDetailDto(MarketPost entity, String author, Long authorIdx);
+    MarketDetailRes copy(MarketDetailRes source);
     default List<String> map(List<MarketProductImage> images) {
         return images.stream()
                 .map(MarketProductImage::getUrl)
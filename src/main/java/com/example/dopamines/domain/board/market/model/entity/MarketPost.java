@@ -7,6 +7,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -23,7 +24,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "market_board")
+@Table(name = "market_board", indexes = @Index(name = "idx_market_board_price", columnList = "price"))
 public class MarketPost {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -39,12 +40,19 @@ public class MarketPost {
     private Integer price;
 
     private String mainImage;
+    // 목록용 썸네일 (비동기로 생성되므로 생성 전까지 null)
+    private String thumbnailImage;
+    private String webpImage;
 
     private LocalDate createdAt;
     private LocalDate updatedAt;
 
     boolean status;
 
+    // 찜 수 (MarkedService 에서 UPDATE ... + 1 로 관리)
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int markedCount;
+
     @OneToMany(mappedBy = "marketPost", fetch = FetchType.LAZY, orphanRemoval = true)
     private List<MarketProductImage> images;
 
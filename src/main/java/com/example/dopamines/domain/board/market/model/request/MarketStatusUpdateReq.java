@@ -0,0 +1,9 @@
+package com.example.dopamines.domain.board.market.model.request;
+
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class MarketStatusUpdateReq {
+    private List<Long> idxList; // 판매 완료 처리할 게시글 idx
+}
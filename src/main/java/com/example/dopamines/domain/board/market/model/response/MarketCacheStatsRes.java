@@ -0,0 +1,16 @@
+package com.example.dopamines.domain.board.market.model.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class MarketCacheStatsRes {
+    private Long size; // 캐시된 게시글 수
+    private Long hitCount;
+    private Long missCount;
+    private Double hitRate;
+    private Long loadCount;
+    private Double averageLoadMillis;
+    private Long evictionCount;
+}
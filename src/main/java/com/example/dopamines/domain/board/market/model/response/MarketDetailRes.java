@@ -17,4 +17,5 @@ public class MarketDetailRes {
     private String author;
     private Long authorIdx;
     private Boolean marked; // 유저에 따른 찜 상태
+    private Integer markedCount;
 }
@@ -0,0 +1,13 @@
+package com.example.dopamines.domain.board.market.model.response;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class MarketFacetRes {
+    private List<MarketPriceBucketRes> priceBuckets; // 판매중 게시글의 가격대별 수 (가격 필터 무시)
+    private Long onSaleCount; // 가격 필터 적용 후 판매중
+    private Long soldCount; // 가격 필터 적용 후 판매완료
+}
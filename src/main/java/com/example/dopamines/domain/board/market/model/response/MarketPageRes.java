@@ -0,0 +1,17 @@
+package com.example.dopamines.domain.board.market.model.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class MarketPageRes {
+    private List<MarketReadRes> posts;
+    private String nextCursor; // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+    private MarketFacetRes facets; // 검색 첫 페이지에만 포함
+
+    public MarketPageRes(List<MarketReadRes> posts, String nextCursor) {
+        this(posts, nextCursor, null);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.dopamines.domain.board.market.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class MarketPriceBucketRes {
+    private Integer minPrice; // 이상 (null 이면 하한 없음)
+    private Integer maxPrice; // 미만 (null 이면 상한 없음)
+    private Long count;
+}
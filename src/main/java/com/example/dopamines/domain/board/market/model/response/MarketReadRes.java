@@ -11,5 +11,9 @@ public class MarketReadRes {
     private LocalDate createdAt;
     private String author;
     private String mainImage;
+    private String thumbnailImage; // null 이면 mainImage 사용
+    private String webpImage;
     private Boolean status;
+    private Integer markedCount;
+    private Boolean marked; // 로그인한 유저의 찜 여부 (비로그인은 null)
 }
@@ -0,0 +1,15 @@
+package com.example.dopamines.domain.board.market.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 검색 색인 적재용 projection (이미지/작성자 등 색인에 필요 없는 컬럼은 읽지 않는다)
+@Getter
+@AllArgsConstructor
+public class MarketSearchDocument {
+    private Long idx;
+    private String title;
+    private String content;
+    private Integer price;
+    private Boolean status; // true = 판매완료
+}
@@ -1,9 +1,52 @@
 package com.example.dopamines.domain.board.market.repository;
 
 import com.example.dopamines.domain.board.market.model.entity.MarketPost;
+import com.example.dopamines.domain.board.market.model.response.MarketSearchDocument;
 import com.example.dopamines.domain.board.market.repository.querydsl.MarketPostRepositoryCustom;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface MarketPostRepository extends JpaRepository<MarketPost, Long> , MarketPostRepositoryCustom {
-}
+    // 검색 색인 적재용 (idx 오름차순으로 나눠 읽기, 색인에 쓰는 컬럼만)
+    @Query("SELECT new com.example.dopamines.domain.board.market.model.response.MarketSearchDocument(p.idx, p.title, p.content, p.price, p.status) "
+            + "FROM MarketPost p WHERE p.idx > :lastIdx ORDER BY p.idx ASC")
+    List<MarketSearchDocument> findSearchDocumentsAfterIdx(Long lastIdx, Pageable pageable);
+
+    // 같은 게시글의 찜 등록/취소를 직렬화하기 위한 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM MarketPost p WHERE p.idx = :idx")
+    Optional<MarketPost> findByIdForUpdate(Long idx);
+
+    @Modifying
+    @Query("UPDATE MarketPost p SET p.markedCount = p.markedCount + :delta WHERE p.idx = :idx")
+    int increaseMarkedCount(Long idx, int delta);
+
+    // 판매자 본인의 판매중 게시글만 판매완료로 변경, 변경된 행 수 반환
+    @Modifying
+    @Query("UPDATE MarketPost p SET p.status = true, p.updatedAt = :today "
+            + "WHERE p.idx IN :idxList AND p.status = false AND p.user.idx = :sellerIdx")
+    int markSold(List<Long> idxList, Long sellerIdx, LocalDate today);
 
+    // 판매자 본인의 판매완료 게시글 idx (판매완료 처리 후 색인/캐시 반영 대상)
+    @Query("SELECT p.idx FROM MarketPost p WHERE p.idx IN :idxList AND p.status = true AND p.user.idx = :sellerIdx")
+    List<Long> findSoldIdxBySeller(List<Long> idxList, Long sellerIdx);
+
+    // marked_count 컬럼 추가 전에 쌓인 찜 수 반영
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE market_board m SET m.marked_count = (SELECT COUNT(*) FROM marked k WHERE k.market_board_idx = m.idx)", nativeQuery = true)
+    int backfillMarkedCount();
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE MarketPost p SET p.thumbnailImage = :thumbnailImage, p.webpImage = :webpImage WHERE p.idx = :idx")
+    int updateImageVariants(Long idx, String thumbnailImage, String webpImage);
+}
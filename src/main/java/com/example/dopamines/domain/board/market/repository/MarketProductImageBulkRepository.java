@@ -0,0 +1,8 @@
+package com.example.dopamines.domain.board.market.repository;
+
+import java.util.List;
+
+public interface MarketProductImageBulkRepository {
+    // 한 게시글의 이미지들을 multi-row INSERT 한 번으로 저장
+    void saveAllUrls(Long marketPostIdx, List<String> urls);
+}
@@ -0,0 +1,30 @@
+package com.example.dopamines.domain.board.market.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// IDENTITY 전략이라 Hibernate 가 insert 를 묶지 못하므로 JDBC 로 직접 multi-row INSERT
+@RequiredArgsConstructor
+public class MarketProductImageBulkRepositoryImpl implements MarketProductImageBulkRepository {
+    private static final String INSERT_SQL = "INSERT INTO market_product_image (url, market_board_idx) VALUES ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void saveAllUrls(Long marketPostIdx, List<String> urls) {
+        if (urls.isEmpty()) {
+            return;
+        }
+
+        String sql = INSERT_SQL + String.join(", ", Collections.nCopies(urls.size(), "(?, ?)"));
+        List<Object> args = new ArrayList<>(urls.size() * 2);
+        for (String url : urls) {
+            args.add(url);
+            args.add(marketPostIdx);
+        }
+        jdbcTemplate.update(sql, args.toArray());
+    }
+}
@@ -3,5 +3,5 @@ package com.example.dopamines.domain.board.market.repository;
 import com.example.dopamines.domain.board.market.model.entity.MarketProductImage;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface MarketProductImageRepository extends JpaRepository<MarketProductImage, Long> {
+public interface MarketProductImageRepository extends JpaRepository<MarketProductImage, Long>, MarketProductImageBulkRepository {
 }
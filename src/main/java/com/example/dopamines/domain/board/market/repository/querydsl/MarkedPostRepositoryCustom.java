@@ -0,0 +1,9 @@
+package com.example.dopamines.domain.board.market.repository.querydsl;
+
+import com.example.dopamines.domain.board.market.model.entity.MarkedPost;
+import org.springframework.data.domain.Slice;
+
+public interface MarkedPostRepositoryCustom {
+    // 찜한 순서(찜 idx) 내림차순 keyset, 게시글과 작성자를 함께 조회 (lastMarkedIdx 가 null 이면 첫 페이지)
+    Slice<MarkedPost> findMarkedPosts(Long userIdx, Long lastMarkedIdx, int size);
+}
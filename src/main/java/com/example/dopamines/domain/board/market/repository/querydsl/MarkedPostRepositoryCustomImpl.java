@@ -0,0 +1,54 @@
+package com.example.dopamines.domain.board.market.repository.querydsl;
+
+import com.example.dopamines.domain.board.market.model.entity.MarkedPost;
+import com.example.dopamines.domain.board.market.model.entity.QMarkedPost;
+import com.example.dopamines.domain.board.market.model.entity.QMarketPost;
+import com.example.dopamines.domain.user.model.entity.QUser;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class MarkedPostRepositoryCustomImpl implements MarkedPostRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+    private QMarkedPost markedPost;
+    private QMarketPost marketPost;
+    private QUser user;
+
+    public MarkedPostRepositoryCustomImpl(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+        this.markedPost = QMarkedPost.markedPost;
+        this.marketPost = QMarketPost.marketPost;
+        this.user = QUser.user;
+    }
+
+    @Override
+    public Slice<MarkedPost> findMarkedPosts(Long userIdx, Long lastMarkedIdx, int size) {
+        List<MarkedPost> result = queryFactory
+                .selectFrom(markedPost)
+                .join(markedPost.marketPost, marketPost).fetchJoin()
+                .join(marketPost.user, user).fetchJoin()
+                .where(markedPost.user.idx.eq(userIdx), markedIdxLowerThan(lastMarkedIdx))
+                .orderBy(markedPost.idx.desc())
+                .limit(size + 1)
+                .fetch();
+
+        boolean hasNext = result.size() > size;
+        if (hasNext) {
+            result = result.subList(0, size);
+        }
+        return new SliceImpl<>(result, PageRequest.of(0, size), hasNext);
+    }
+
+    private BooleanExpression markedIdxLowerThan(Long lastMarkedIdx) {
+        if (lastMarkedIdx == null) {
+            return null;
+        }
+        return markedPost.idx.lt(lastMarkedIdx);
+    }
+}
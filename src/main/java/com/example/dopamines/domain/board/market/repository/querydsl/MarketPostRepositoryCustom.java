@@ -2,13 +2,12 @@ package com.example.dopamines.domain.board.market.repository.querydsl;
 
 import com.example.dopamines.domain.board.market.model.entity.MarketPost;
 import java.util.List;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
 public interface MarketPostRepositoryCustom {
-    Slice<MarketPost> search(Pageable pageable, String keyword, Integer minPrice, Integer maxPrice);
+    // 목록 조회는 모두 idx 내림차순 keyset (lastIdx 가 null 이면 첫 페이지)
+    Slice<MarketPost> search(Long lastIdx, int size, String keyword, Integer minPrice, Integer maxPrice);
     MarketPost findByIdWithImages(Long idx);
-    Slice<MarketPost> findAllWithPaging(Pageable pageable);
-
-    Slice<MarketPost> findAllInMarked(List<Long> postIds, Pageable pageable);
+    Slice<MarketPost> findAllWithPaging(Long lastIdx, int size);
+    List<MarketPost> findAllWithUserByIdxIn(List<Long> idxList);
 }
@@ -11,7 +11,7 @@ import jakarta.persistence.EntityManager;
 import java.util.List;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
@@ -32,44 +32,32 @@ public class MarketPostRepositoryCustomImpl implements MarketPostRepositoryCusto
     }
 
     @Override
-    public Slice<MarketPost> findAllWithPaging(Pageable pageable) {
+    public Slice<MarketPost> findAllWithPaging(Long lastIdx, int size) {
 
         List<MarketPost> result = queryFactory
                 .selectFrom(marketPost)
                 .leftJoin(marketPost.user, user).fetchJoin()
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize()+1)
+                .where(idxLowerThan(lastIdx))
+                .orderBy(marketPost.idx.desc())
+                .limit(size + 1)
                 .fetch();
 
-        Boolean hasnext = false;
-
-        if(result.size() == pageable.getPageSize()+1) {
-            hasnext = true;
-        }
-
-        return new SliceImpl<>(result, pageable, hasnext);
+        return toSlice(result, size);
     }
 
     @Override
-    public Slice<MarketPost> findAllInMarked(List<Long> postIds, Pageable pageable) {
-        List<MarketPost> result = queryFactory
+    public List<MarketPost> findAllWithUserByIdxIn(List<Long> idxList) {
+        if (idxList.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
                 .selectFrom(marketPost)
                 .leftJoin(marketPost.user, user).fetchJoin()
-                .where(marketPost.idx.in(postIds))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize()+1)
+                .where(marketPost.idx.in(idxList))
                 .fetch();
-
-        Boolean hasnext = false;
-
-        if(result.size() == pageable.getPageSize()+1) {
-            hasnext = true;
-        }
-
-        return new SliceImpl<>(result, pageable, hasnext);
     }
 
-
     @Override
     public MarketPost findByIdWithImages(Long idx) {
         MarketPost post = queryFactory
@@ -83,24 +71,34 @@ public class MarketPostRepositoryCustomImpl implements MarketPostRepositoryCusto
     }
 
     @Override
-    public Slice<MarketPost> search(Pageable pageable, String keyword, Integer minPrice, Integer maxPrice) {
+    public Slice<MarketPost> search(Long lastIdx, int size, String keyword, Integer minPrice, Integer maxPrice) {
         List<MarketPost> result = queryFactory
                 .selectFrom(marketPost)
                 .leftJoin(marketPost.user, user).fetchJoin()
-                .where(titleOrContentContains(keyword),greaterThanMinPrice(minPrice),lowerThanMaxPrice(maxPrice))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize()+1)
+                .where(titleOrContentContains(keyword),greaterThanMinPrice(minPrice),lowerThanMaxPrice(maxPrice),idxLowerThan(lastIdx))
+                .orderBy(marketPost.idx.desc())
+                .limit(size + 1)
                 .fetch();
 
-        Boolean hasnext = false;
+        return toSlice(result, size);
+    }
 
-        if(result.size() == pageable.getPageSize()+1) {
-            hasnext = true;
-        }
 
-        return new SliceImpl<>(result, pageable, hasnext);
+    // size + 1 개를 읽어 다음 페이지 존재 여부 판단
+    private Slice<MarketPost> toSlice(List<MarketPost> result, int size) {
+        boolean hasNext = result.size() > size;
+        if (hasNext) {
+            result = result.subList(0, size);
+        }
+        return new SliceImpl<>(result, PageRequest.of(0, size), hasNext);
     }
 
+    private BooleanExpression idxLowerThan(Long lastIdx) {
+        if (lastIdx == null) {
+            return null;
+        }
+        return marketPost.idx.lt(lastIdx);
+    }
 
     private BooleanExpression titleOrContentContains(String keyword) {
 
@@ -0,0 +1,81 @@
+package com.example.dopamines.domain.board.market.service;
+
+import com.example.dopamines.domain.board.market.repository.MarkedPostRepository;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 회원별 찜한 게시글 idx 집합. 목록 한 페이지의 찜 여부를 추가 쿼리 없이 채우기 위해 사용한다.
+ * 처음 조회할 때 한 번 읽어 두고 이 노드의 찜 등록/취소는 커밋 직후 반영한다.
+ * 다른 노드에서 바뀐 내용은 expire 후 다시 읽을 때 반영된다.
+ */
+@Component
+public class MarkedPostCache {
+    private final MarkedPostRepository markedRepository;
+    private final LoadingCache<Long, Set<Long>> markedPosts;
+
+    public MarkedPostCache(MarkedPostRepository markedRepository,
+                           @Value("${market.marked.cache.max-users:10000}") Long maxUsers,
+                           @Value("${market.marked.cache.ttl-seconds:300}") Long ttlSeconds) {
+        this.markedRepository = markedRepository;
+        this.markedPosts = CacheBuilder.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build(CacheLoader.from(this::load));
+    }
+
+    public Set<Long> get(Long userIdx) {
+        return markedPosts.getUnchecked(userIdx);
+    }
+
+    public boolean isMarked(Long userIdx, Long postIdx) {
+        return get(userIdx).contains(postIdx);
+    }
+
+    // 캐시에 없는 회원은 다음 조회 때 DB 에서 읽으므로 따로 반영하지 않는다
+    // 롤백된 찜 등록/취소가 남지 않도록 트랜잭션 안이면 커밋 후 반영
+    public void add(Long userIdx, Long postIdx) {
+        afterCommit(() -> {
+            Set<Long> posts = markedPosts.getIfPresent(userIdx);
+            if (posts != null) {
+                posts.add(postIdx);
+            }
+        });
+    }
+
+    public void remove(Long userIdx, Long postIdx) {
+        afterCommit(() -> {
+            Set<Long> posts = markedPosts.getIfPresent(userIdx);
+            if (posts != null) {
+                posts.remove(postIdx);
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private Set<Long> load(Long userIdx) {
+        Set<Long> posts = ConcurrentHashMap.newKeySet();
+        posts.addAll(markedRepository.findPostIdsByUserId(userIdx));
+        return posts;
+    }
+}
@@ -3,65 +3,96 @@ package com.example.dopamines.domain.board.market.service;
 import com.example.dopamines.domain.board.market.mapper.MarketPostMapper;
 import com.example.dopamines.domain.board.market.model.entity.MarkedPost;
 import com.example.dopamines.domain.board.market.model.entity.MarketPost;
+import com.example.dopamines.domain.board.market.model.response.MarketPageRes;
 import com.example.dopamines.domain.board.market.model.response.MarketReadRes;
 import com.example.dopamines.domain.board.market.repository.MarkedPostRepository;
 import com.example.dopamines.domain.board.market.repository.MarketPostRepository;
 import com.example.dopamines.domain.user.model.entity.User;
 import com.example.dopamines.global.common.BaseException;
 import com.example.dopamines.global.common.BaseResponseStatus;
+import com.example.dopamines.global.common.CursorToken;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MarkedService {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
     private final String SUCCESS_MARKED_DELETE = "찜 게시글 취소 성공";
     private final String SUCCESS_MARKED_CREATE = "찜 게시글 등록 완료";
     private final MarkedPostRepository markedRepository;
     private final MarketPostRepository marketPostRepository;
 
     private final MarketPostMapper mapper;
-    public String create(User user, Long postIdx) {
+    private final MarkedPostCache markedPostCache;
+    private final MarketDetailCache marketDetailCache;
 
-        MarkedPost result = markedRepository.findByUserAndMarketPost(user.getIdx(), postIdx);
-        MarkedPost marked = null;
+    @Value("${market.marked.backfill-on-startup:false}")
+    private boolean backfillOnStartup;
 
-        if (result != null) { // 이미 찜 되어 있는 경우
-            markedRepository.deleteById(result.getIdx());
+    // marked_count 컬럼 도입 시 한 번만 켜서 기존 찜 수를 채운다
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMarkedCount() {
+        if (backfillOnStartup) {
+            int updated = marketPostRepository.backfillMarkedCount();
+            log.info("[MARKET][MARKED COUNT BACKFILL] => {} posts", updated);
+        }
+    }
+
+    // 게시글 행을 잠근 뒤 찜 등록/취소와 marked_count 증감을 한 트랜잭션에서 처리
+    @Transactional
+    public String create(User user, Long postIdx) {
+        MarketPost post = marketPostRepository.findByIdForUpdate(postIdx).orElseThrow(()-> new BaseException(BaseResponseStatus.MARKET_NOT_FOUND));
+
+        if (markedRepository.deleteByUserAndMarketPost(user.getIdx(), postIdx) > 0) { // 이미 찜 되어 있는 경우
+            marketPostRepository.increaseMarkedCount(postIdx, -1);
+            markedPostCache.remove(user.getIdx(), postIdx);
+            marketDetailCache.invalidate(postIdx); // markedCount 변경
             return SUCCESS_MARKED_DELETE;
         }
 
-        MarketPost post = marketPostRepository.findById(postIdx).orElseThrow(()-> new BaseException(BaseResponseStatus.MARKET_NOT_FOUND));
-        marked = MarkedPost.builder()
+        MarkedPost marked = MarkedPost.builder()
                 .user(user)
                 .marketPost(post)
                 .build();
 
-       markedRepository.save(marked);
+        markedRepository.save(marked);
+        marketPostRepository.increaseMarkedCount(postIdx, 1);
+        markedPostCache.add(user.getIdx(), postIdx);
+        marketDetailCache.invalidate(postIdx);
 
-       return SUCCESS_MARKED_CREATE;
+        return SUCCESS_MARKED_CREATE;
     }
 
     public boolean checkMarked(User user, Long postIdx) {
-        MarketPost post = marketPostRepository.findById(postIdx).orElseThrow(()-> new BaseException(BaseResponseStatus.MARKET_NOT_FOUND));
-        return markedRepository.existsByUserAndMarketPost(user, post);
+        return markedPostCache.isMarked(user.getIdx(), postIdx);
     }
 
-    public List<MarketReadRes> findAll(User user, Integer page, Integer size) {
-        List<Long> postIds = markedRepository.findPostIdsByUserId(user.getIdx());
-
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "idx"));
-        Slice<MarketPost> posts = marketPostRepository.findAllInMarked(postIds, pageable);
+    public MarketPageRes findAll(User user, String cursor, Integer size) {
+        int pageSize = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        long[] lastMarkedIdx = CursorToken.decode(cursor);
+        Slice<MarkedPost> marks = markedRepository.findMarkedPosts(user.getIdx(), lastMarkedIdx == null ? null : lastMarkedIdx[0], pageSize);
 
-        return posts.stream()
+        List<MarketReadRes> result = marks.stream()
+                .map(MarkedPost::getMarketPost)
                 .map((post) -> mapper.toDto(post, post.getUser().getNickname()))
+                .peek((res) -> res.setMarked(true))
                 .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (marks.hasNext()) {
+            nextCursor = CursorToken.encode(marks.getContent().get(marks.getNumberOfElements() - 1).getIdx());
+        }
+        return new MarketPageRes(result, nextCursor);
     }
 }
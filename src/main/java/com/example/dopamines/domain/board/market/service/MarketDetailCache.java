@@ -0,0 +1,133 @@
+package com.example.dopamines.domain.board.market.service;
+
+import com.example.dopamines.domain.board.market.mapper.MarketPostMapper;
+import com.example.dopamines.domain.board.market.model.entity.MarketPost;
+import com.example.dopamines.domain.board.market.model.response.MarketCacheStatsRes;
+import com.example.dopamines.domain.board.market.model.response.MarketDetailRes;
+import com.example.dopamines.domain.board.market.repository.MarketPostRepository;
+import com.example.dopamines.global.common.BaseException;
+import com.example.dopamines.global.common.BaseResponseStatus;
+import com.example.dopamines.global.infra.kafka.KafkaConstants;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 마켓 게시글 상세(MarketDetailRes) 캐시. 같은 게시글을 동시에 조회하면 DB 조회는 한 번만 일어난다 (Guava LoadingCache).
+ * 용량은 본문/이미지 URL 길이 기준의 대략적인 바이트로 제한하고, 판매 상태 변경/삭제/찜 변경 시 커밋 후 무효화한다.
+ * market.cache.kafka-invalidation=true 이면 무효화를 Kafka 로 다른 노드에도 전파한다.
+ */
+@Slf4j
+@Component
+public class MarketDetailCache {
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final MarketPostRepository postRepository;
+    private final MarketPostMapper marketPostMapper;
+    private final KafkaTemplate<String, String> invalidationKafkaTemplate;
+    private final boolean kafkaInvalidation;
+    private final LoadingCache<Long, MarketDetailRes> details;
+
+    public MarketDetailCache(MarketPostRepository postRepository, MarketPostMapper marketPostMapper,
+                             @Qualifier("invalidationKafkaTemplate") KafkaTemplate<String, String> invalidationKafkaTemplate,
+                             @Value("${market.cache.kafka-invalidation:false}") boolean kafkaInvalidation,
+                             @Value("${market.cache.detail.max-bytes:33554432}") Long maxBytes,
+                             @Value("${market.cache.detail.ttl-seconds:60}") Long ttlSeconds) {
+        this.postRepository = postRepository;
+        this.marketPostMapper = marketPostMapper;
+        this.invalidationKafkaTemplate = invalidationKafkaTemplate;
+        this.kafkaInvalidation = kafkaInvalidation;
+        this.details = CacheBuilder.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long idx, MarketDetailRes detail) -> weigh(detail))
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build(CacheLoader.from(this::load));
+    }
+
+    // 호출하는 쪽에서 marked 등을 채우므로 캐시된 객체가 아닌 복사본을 반환
+    public MarketDetailRes get(Long idx) {
+        try {
+            return marketPostMapper.copy(details.getUnchecked(idx));
+        } catch (UncheckedExecutionException e) {
+            if (e.getCause() instanceof BaseException baseException) {
+                throw baseException;
+            }
+            throw e;
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 후에 지워야 그 사이에 다시 읽힌 이전 값이 남지 않는다
+    public void invalidate(Long idx) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(idx);
+                }
+            });
+        } else {
+            evict(idx);
+        }
+    }
+
+    @KafkaListener(topics = KafkaConstants.MARKET_CACHE_INVALIDATION_TOPIC,
+            containerFactory = "invalidationListenerContainerFactory",
+            autoStartup = "${market.cache.kafka-invalidation:false}")
+    public void onInvalidation(String idx) {
+        details.invalidate(Long.valueOf(idx));
+    }
+
+    public MarketCacheStatsRes getStats() {
+        CacheStats stats = details.stats();
+        return MarketCacheStatsRes.builder()
+                .size(details.size())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .loadCount(stats.loadCount())
+                .averageLoadMillis(stats.averageLoadPenalty() / 1_000_000)
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+
+    private void evict(Long idx) {
+        details.invalidate(idx);
+        if (kafkaInvalidation) {
+            invalidationKafkaTemplate.send(KafkaConstants.MARKET_CACHE_INVALIDATION_TOPIC, idx.toString());
+        }
+    }
+
+    private MarketDetailRes load(Long idx) {
+        MarketPost post = postRepository.findByIdWithImages(idx);
+        if (post == null) {
+            throw new BaseException(BaseResponseStatus.MARKET_NOT_FOUND);
+        }
+        return marketPostMapper.toDetailDto(post, post.getUser().getNickname(), post.getUser().getIdx());
+    }
+
+    private static int weigh(MarketDetailRes detail) {
+        int chars = length(detail.getTitle()) + length(detail.getContent()) + length(detail.getAuthor());
+        if (detail.getImages() != null) {
+            for (String image : detail.getImages()) {
+                chars += length(image);
+            }
+        }
+        return ENTRY_OVERHEAD_BYTES + chars * 2;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
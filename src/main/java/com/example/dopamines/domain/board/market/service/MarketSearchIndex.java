@@ -0,0 +1,267 @@
+package com.example.dopamines.domain.board.market.service;
+
+import com.example.dopamines.domain.board.market.model.entity.MarketPost;
+import com.example.dopamines.domain.board.market.model.response.MarketFacetRes;
+import com.example.dopamines.domain.board.market.model.response.MarketPriceBucketRes;
+import com.example.dopamines.domain.board.market.model.response.MarketSearchDocument;
+import com.example.dopamines.domain.board.market.repository.MarketPostRepository;
+import com.example.dopamines.global.search.NgramInvertedIndex;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * /market/search 용 메모리 역색인. 검색은 색인에서 상위 id 만 뽑고 DB 는 해당 id 의 게시글만 조회한다.
+ * 기동 시 전체 게시글을 idx 순으로 나눠 읽어 색인하고, 이후에는 등록/삭제/판매완료 커밋 시점에 바로 반영한다.
+ * 다른 노드의 변경은 주기적으로 최근 idx 구간(늦게 커밋된 IDENTITY 행 포함)을 다시 읽고,
+ * 그보다 오래된 게시글은 더 긴 주기로 전체를 다시 읽어 수정/판매완료/삭제를 맞춘다.
+ * 가격/판매 상태도 함께 들고 있어 검색어에 맞는 게시글의 가격대별, 판매 상태별 수를 SQL 없이 집계한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarketSearchIndex {
+    private static final int LOAD_CHUNK_SIZE = 1000;
+    // 가격대 경계 (i 번째 구간 : BOUNDS[i-1] 이상 BOUNDS[i] 미만)
+    private static final int[] PRICE_BUCKET_BOUNDS = {10_000, 50_000, 100_000, 500_000};
+
+    private final MarketPostRepository postRepository;
+
+    private final NgramInvertedIndex index = new NgramInvertedIndex(2);
+    private final Map<Long, Integer> prices = new ConcurrentHashMap<>(); // 가격 범위 필터용
+    private final Map<Long, Boolean> soldStatus = new ConcurrentHashMap<>(); // MarketPost.status (true = 판매완료)
+    // 색인된 게시글의 제목/본문 해시 (다시 읽을 때 바뀐 글만 n-gram 을 다시 만들고, idx 구간으로 삭제된 글을 찾는다)
+    private final NavigableMap<Long, Integer> textHashes = new TreeMap<>();
+    // 이 노드에서 커밋 후 반영한 변경의 순번 (rescan 이 DB 를 읽은 뒤에 바뀐 게시글을 읽어 둔 값으로 덮어쓰지 않기 위함)
+    private long changeSeq = 0L;
+    private final Map<Long, Long> changedAt = new HashMap<>();
+    // rescan 끼리만 직렬화 (색인 갱신/조회는 청크를 반영하는 동안만 기다린다)
+    private final Object scanLock = new Object();
+    private volatile long lastLoadedIdx = 0L;
+    private volatile boolean ready = false;
+
+    // refresh 때마다 다시 읽는 최근 idx 구간 크기
+    @Value("${market.search.rescan-window:1000}")
+    private long rescanWindow;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long start = System.currentTimeMillis();
+        rescan(0L);
+        ready = true;
+        log.info("[MARKET][SEARCH INDEX] indexed {} posts in {} ms", index.size(), System.currentTimeMillis() - start);
+    }
+
+    @Scheduled(fixedDelayString = "${market.search.refresh-ms:10000}")
+    public void refresh() {
+        if (ready) {
+            rescan(Math.max(0L, lastLoadedIdx - rescanWindow));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${market.search.reconcile-ms:600000}", initialDelayString = "${market.search.reconcile-ms:600000}")
+    public void reconcile() {
+        if (ready) {
+            rescan(0L);
+        }
+    }
+
+    // 색인이 준비되기 전에는 기존 DB 검색을 사용
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void index(MarketPost post) {
+        Long idx = post.getIdx();
+        String title = post.getTitle();
+        String content = post.getContent();
+        Integer price = post.getPrice();
+        boolean sold = post.isStatus();
+        afterCommit(() -> applyChange(idx, title, content, price, sold));
+    }
+
+    public void remove(Long idx) {
+        afterCommit(() -> removeNow(idx));
+    }
+
+    public void markSold(Long idx) {
+        afterCommit(() -> markSoldNow(idx));
+    }
+
+    // 검색어에 맞는 게시글의 가격대/판매 상태별 수 (SQL 없이 색인에서 집계)
+    // 가격대별 수는 가격 필터와 관계없이(다른 가격대를 고를 수 있도록), 판매 상태별 수는 가격 범위 안에서만 센다
+    public MarketFacetRes facets(String keyword, Integer minPrice, Integer maxPrice) {
+        long[] bucketCounts = new long[PRICE_BUCKET_BOUNDS.length + 1];
+        long[] statusCounts = new long[2]; // [판매중, 판매완료]
+
+        index.forEachMatch(keyword, (idx) -> {
+            Integer price = prices.get(idx);
+            Boolean sold = soldStatus.get(idx);
+            if (price == null || sold == null) {
+                return;
+            }
+            if (!sold) {
+                bucketCounts[bucketOf(price)]++;
+            }
+            if (inPriceRange(price, minPrice, maxPrice)) {
+                statusCounts[sold ? 1 : 0]++;
+            }
+        });
+
+        List<MarketPriceBucketRes> priceBuckets = new ArrayList<>();
+        for (int i = 0; i < bucketCounts.length; i++) {
+            Integer lower = i == 0 ? null : PRICE_BUCKET_BOUNDS[i - 1];
+            Integer upper = i == PRICE_BUCKET_BOUNDS.length ? null : PRICE_BUCKET_BOUNDS[i];
+            priceBuckets.add(new MarketPriceBucketRes(lower, upper, bucketCounts[i]));
+        }
+        return MarketFacetRes.builder()
+                .priceBuckets(priceBuckets)
+                .onSaleCount(statusCounts[0])
+                .soldCount(statusCounts[1])
+                .build();
+    }
+
+    // after(이전 페이지 마지막 결과) 다음부터 점수 순 상위 limit 개
+    public List<NgramInvertedIndex.Hit> search(String keyword, Integer minPrice, Integer maxPrice, NgramInvertedIndex.Hit after, int limit) {
+        return index.search(keyword, (idx) -> inPriceRange(prices.get(idx), minPrice, maxPrice), after, limit);
+    }
+
+    // 롤백된 변경이 색인에 남지 않도록 트랜잭션 안이면 커밋 후 반영
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 제목/본문이 바뀐 경우에만 n-gram 을 다시 만들고, 가격/판매 상태는 항상 덮어쓴다
+    private synchronized void apply(Long idx, String title, String content, Integer price, boolean sold) {
+        int textHash = Objects.hash(title, content);
+        Integer oldHash = textHashes.put(idx, textHash);
+        if (oldHash == null || oldHash != textHash) {
+            index.put(idx, title, content);
+        }
+        untrack(idx);
+        prices.put(idx, price);
+        soldStatus.put(idx, sold);
+    }
+
+    private synchronized void applyChange(Long idx, String title, String content, Integer price, boolean sold) {
+        touch(idx);
+        apply(idx, title, content, price, sold);
+    }
+
+    private synchronized void removeNow(Long idx) {
+        touch(idx);
+        forget(idx);
+    }
+
+    private void forget(Long idx) {
+        index.remove(idx);
+        textHashes.remove(idx);
+        untrack(idx);
+    }
+
+    private synchronized void markSoldNow(Long idx) {
+        touch(idx);
+        soldStatus.computeIfPresent(idx, (key, sold) -> true);
+    }
+
+    // fromIdx 이후 게시글을 다시 읽어 반영하고, 읽은 구간 안에서 DB 에 없는 게시글은 색인에서 뺀다
+    // DB 조회는 락 밖에서 하고, 읽은 청크를 반영할 때만 락을 잡는다
+    private void rescan(long fromIdx) {
+        synchronized (scanLock) {
+            long cursor = fromIdx;
+            List<MarketSearchDocument> chunk;
+            do {
+                long readSeq = currentChangeSeq();
+                chunk = postRepository.findSearchDocumentsAfterIdx(cursor, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                long upper = chunk.size() < LOAD_CHUNK_SIZE ? Long.MAX_VALUE : chunk.get(chunk.size() - 1).getIdx();
+                applyChunk(chunk, cursor, upper, readSeq);
+
+                if (!chunk.isEmpty()) {
+                    cursor = chunk.get(chunk.size() - 1).getIdx();
+                    lastLoadedIdx = Math.max(lastLoadedIdx, cursor);
+                }
+            } while (chunk.size() == LOAD_CHUNK_SIZE);
+        }
+    }
+
+    // (lower, upper] 구간을 읽은 결과로 맞춘다. 읽기 시작한 뒤 이 노드에서 바뀐 게시글은 이미 최신이므로 건너뛴다
+    private synchronized void applyChunk(List<MarketSearchDocument> chunk, long lower, long upper, long readSeq) {
+        Set<Long> found = new HashSet<>();
+        for (MarketSearchDocument doc : chunk) {
+            found.add(doc.getIdx());
+            if (!changedSince(doc.getIdx(), readSeq)) {
+                apply(doc.getIdx(), doc.getTitle(), doc.getContent(), doc.getPrice(), doc.getStatus());
+            }
+        }
+
+        List<Long> deleted = textHashes.subMap(lower, false, upper, true).keySet().stream()
+                .filter((idx) -> !found.contains(idx) && !changedSince(idx, readSeq))
+                .toList();
+        deleted.forEach(this::forget);
+
+        // 이후 청크는 더 늦은 시점에 읽으므로 이번 읽기 이전의 변경 기록은 필요 없다
+        changedAt.values().removeIf((seq) -> seq <= readSeq);
+    }
+
+    private synchronized long currentChangeSeq() {
+        return changeSeq;
+    }
+
+    private void touch(Long idx) {
+        changedAt.put(idx, ++changeSeq);
+    }
+
+    private boolean changedSince(Long idx, long readSeq) {
+        Long seq = changedAt.get(idx);
+        return seq != null && seq > readSeq;
+    }
+
+    private void untrack(Long idx) {
+        prices.remove(idx);
+        soldStatus.remove(idx);
+    }
+
+    private int bucketOf(Integer price) {
+        int bucket = 0;
+        while (bucket < PRICE_BUCKET_BOUNDS.length && price >= PRICE_BUCKET_BOUNDS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private boolean inPriceRange(Integer price, Integer minPrice, Integer maxPrice) {
+        if (price == null) {
+            return false;
+        }
+        if (minPrice != null && price < minPrice) {
+            return false;
+        }
+        return maxPrice == null || price <= maxPrice;
+    }
+}
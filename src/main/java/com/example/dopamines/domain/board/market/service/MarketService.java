@@ -2,90 +2,202 @@ package com.example.dopamines.domain.board.market.service;
 
 
 import com.example.dopamines.domain.board.market.mapper.MarketPostMapper;
-import com.example.dopamines.domain.board.market.mapper.MarketProductImageMapper;
 import com.example.dopamines.domain.board.market.model.entity.MarketPost;
-import com.example.dopamines.domain.board.market.model.entity.MarketProductImage;
 import com.example.dopamines.domain.board.market.model.request.MarketCreateReq;
+import com.example.dopamines.domain.board.market.model.response.MarketCacheStatsRes;
 import com.example.dopamines.domain.board.market.model.response.MarketDetailRes;
+import com.example.dopamines.domain.board.market.model.response.MarketFacetRes;
+import com.example.dopamines.domain.board.market.model.response.MarketPageRes;
 import com.example.dopamines.domain.board.market.model.response.MarketReadRes;
 import com.example.dopamines.domain.board.market.repository.MarketPostRepository;
 import com.example.dopamines.domain.board.market.repository.MarketProductImageRepository;
+import com.example.dopamines.domain.chat.repository.ChatRoomRepository;
 import com.example.dopamines.domain.user.model.entity.User;
 import com.example.dopamines.domain.user.repository.UserRepository;
 import com.example.dopamines.global.common.BaseException;
+import com.example.dopamines.global.common.CursorToken;
+import com.example.dopamines.global.infra.s3.ImageVariantService;
+import com.example.dopamines.global.search.IndexSearchPage;
+import com.example.dopamines.global.search.SearchCursor;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.example.dopamines.global.common.BaseResponseStatus;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MarketService {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final MarketPostRepository postRepository;
     private final MarketProductImageRepository marketProductImageRepository;
     private final UserRepository userRepository;
     private final MarketPostMapper marketPostMapper;
-    private final MarketProductImageMapper marketProductImageMapper;
+    private final MarketSearchIndex marketSearchIndex;
+    private final ImageVariantService imageVariantService;
+    private final MarkedPostCache markedPostCache;
+    private final MarketDetailCache marketDetailCache;
+    private final ChatRoomRepository chatRoomRepository;
 
+    @Transactional
     public MarketReadRes add(List<String> imageUrls, MarketCreateReq req, User user) {
         String mainImage = imageUrls.get(0);
         MarketPost post = marketPostMapper.toEntity(mainImage, req, user);
         postRepository.save(post);
 
-        for (String url : imageUrls) {
-            MarketProductImage marketProductImage = marketProductImageMapper.toEntity(url, post);
-            marketProductImageRepository.save(marketProductImage);
-        }
+        // 이미지는 건별 save 대신 INSERT 한 번으로
+        marketProductImageRepository.saveAllUrls(post.getIdx(), imageUrls);
+        marketSearchIndex.index(post);
+        generateImageVariantsAfterCommit(post.getIdx(), mainImage);
 
         user = userRepository.findById(user.getIdx()).orElseThrow(() -> new BaseException(BaseResponseStatus.USER_NOT_FOUND));
         return marketPostMapper.toDto(post,user.getNickname());
     }
 
+    // 커밋 후 대표 이미지 썸네일을 비동기로 만들고 게시글에 반영
+    private void generateImageVariantsAfterCommit(Long postIdx, String mainImage) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                imageVariantService.generate(mainImage)
+                        .thenAccept((variants) -> {
+                            if (variants != null) {
+                                postRepository.updateImageVariants(postIdx, variants.thumbnail(), variants.webp());
+                            }
+                        })
+                        .exceptionally((e) -> {
+                            log.warn("[MARKET][THUMBNAIL FAILED] => post: {}, {}", postIdx, e.getMessage());
+                            return null;
+                        });
+            }
+        });
+    }
+
     public MarketDetailRes findById(Long idx) {
-        MarketPost post = postRepository.findByIdWithImages(idx);
+        return marketDetailCache.get(idx);
+    }
+
+    public MarketCacheStatsRes getCacheStats() {
+        return marketDetailCache.getStats();
+    }
 
-        return marketPostMapper.toDetailDto(post, post.getUser().getNickname(), post.getUser().getIdx());
+    public MarketPageRes findAll(User user, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        long[] lastIdx = CursorToken.decode(cursor);
+        Slice<MarketPost> posts = postRepository.findAllWithPaging(lastIdx == null ? null : lastIdx[0], pageSize);
+
+        MarketPageRes page = toPageRes(posts);
+        if (user != null) { // 찜 여부는 메모리의 회원별 찜 집합으로 채움
+            Set<Long> markedPosts = markedPostCache.get(user.getIdx());
+            page.getPosts().forEach((res) -> res.setMarked(markedPosts.contains(res.getIdx())));
+        }
+        return page;
+    }
+
+    // DB 검색 커서로 넘어온 다음 페이지는 색인 준비 여부와 관계없이 DB 로 이어서 조회
+    // 검색어가 없으면 색인으로 고를 게시글이 없으므로 DB 의 가격 범위 목록 조회 (facet 없음)
+    public MarketPageRes search(String cursor, Integer size, String keyword, Integer minPrice, Integer maxPrice) {
+        int pageSize = resolvePageSize(size);
+        SearchCursor last = SearchCursor.decode(cursor);
+        boolean hasKeyword = keyword != null && !keyword.isBlank();
+        if (hasKeyword && marketSearchIndex.isReady() && !last.isDbCursor()) {
+            return searchWithIndex(last, pageSize, keyword, minPrice, maxPrice);
+        }
+
+        // 색인 커서인데 이 노드의 색인이 아직 준비되지 않았으면 DB 검색 첫 페이지부터
+        Slice<MarketPost> posts = postRepository.search(last.lastIdx(), pageSize, keyword, minPrice, maxPrice);
+
+        return toPageRes(posts);
     }
 
-    public List<MarketReadRes> findAll(Integer page, Integer size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "idx"));
-        Slice<MarketPost> posts = postRepository.findAllWithPaging(pageable);
+    // 색인에서 해당 페이지의 idx 만 뽑고, DB 에서는 그 게시글만 읽어 점수 순서대로 돌려준다
+    // 커서는 (점수, idx) - 이전 페이지 마지막 결과보다 순위가 낮은 것부터 찾는다
+    private MarketPageRes searchWithIndex(SearchCursor last, int size, String keyword, Integer minPrice, Integer maxPrice) {
+        IndexSearchPage<MarketPost> page = IndexSearchPage.load(
+                (after, limit) -> marketSearchIndex.search(keyword, minPrice, maxPrice, after, limit),
+                postRepository::findAllWithUserByIdxIn, MarketPost::getIdx, marketSearchIndex::remove, last.after(), size);
 
-        return posts.stream()
+        List<MarketReadRes> result = page.items().stream()
                 .map((post) -> marketPostMapper.toDto(post, post.getUser().getNickname()))
                 .collect(Collectors.toList());
-    }
 
-    public List<MarketReadRes> search(Integer page, Integer size, String keyword, Integer minPrice, Integer maxPrice) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "idx"));
-        Slice<MarketPost> posts = postRepository.search(pageable, keyword, minPrice, maxPrice);
+        // facet 은 첫 페이지에서만 집계 (다음 페이지에서는 클라이언트가 재사용)
+        MarketFacetRes facets = last.isFirst() ? marketSearchIndex.facets(keyword, minPrice, maxPrice) : null;
+        return new MarketPageRes(result, page.nextCursor(), facets);
+    }
 
-        return posts.stream()
+    private MarketPageRes toPageRes(Slice<MarketPost> posts) {
+        List<MarketReadRes> result = posts.stream()
                 .map((post) -> marketPostMapper.toDto(post, post.getUser().getNickname()))
                 .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (posts.hasNext()) {
+            nextCursor = CursorToken.encode(posts.getContent().get(posts.getNumberOfElements() - 1).getIdx());
+        }
+        return new MarketPageRes(result, nextCursor);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 
-    public void updateStatus(Long idx) {
-        MarketPost post = postRepository.findById(idx).orElseThrow(() -> new BaseException(BaseResponseStatus.MARKET_NOT_FOUND));
+    @Transactional
+    public void updateStatus(User seller, Long idx) {
+        if (markSold(seller, List.of(idx)) == 0) {
+            MarketPost post = postRepository.findById(idx).orElseThrow(() -> new BaseException(BaseResponseStatus.MARKET_NOT_FOUND));
+            if (!post.getUser().getIdx().equals(seller.getIdx())) {
+                throw new BaseException(BaseResponseStatus.MARKET_NOT_AUTHORIZED);
+            }
+        }
+    }
+
+    // 판매자가 여러 게시글을 한 번에 판매 완료 처리 (본인 게시글 중 판매중인 것만 변경)
+    @Transactional
+    public int updateStatus(User seller, List<Long> idxList) {
+        if (idxList == null || idxList.isEmpty() || idxList.size() > MAX_PAGE_SIZE) {
+            throw new BaseException(BaseResponseStatus.INVALID_REQUEST);
+        }
+        return markSold(seller, idxList.stream().distinct().toList());
+    }
+
+    // 판매자 본인의 판매중 게시글만 UPDATE 한 번으로 판매완료 처리하고 채팅방도 한 번에 종료
+    private int markSold(User seller, List<Long> idxList) {
+        int updated = postRepository.markSold(idxList, seller.getIdx(), LocalDate.now());
+        if (updated == 0) {
+            return 0;
+        }
 
-        if (!post.isStatus()) { // 상품이 판매되지 않은 상태
-            post.setStatus(true); // 판매 완료로 변경
-            postRepository.save(post);
+        chatRoomRepository.closeAllSoldBySeller(idxList, seller.getIdx());
+        // 이미 판매완료였던 게시글이 섞여 있어도 색인/캐시 반영은 결과가 같다
+        for (Long idx : postRepository.findSoldIdxBySeller(idxList, seller.getIdx())) {
+            marketSearchIndex.markSold(idx);
+            marketDetailCache.invalidate(idx);
         }
+        return updated;
     }
 
     @Transactional
     public void delete(Long idx) {
         try {
             postRepository.deleteById(idx);
+            marketSearchIndex.remove(idx);
+            marketDetailCache.invalidate(idx);
         } catch (EntityNotFoundException e) {
             throw new BaseException(BaseResponseStatus.MARKET_NOT_FOUND);
         } catch (Exception e) {
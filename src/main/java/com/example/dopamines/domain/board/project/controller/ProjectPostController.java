@@ -8,11 +8,13 @@ import com.example.dopamines.domain.board.project.model.response.ProjectPostRes;
 import com.example.dopamines.domain.board.project.model.response.ProjectPostReadRes;
 import com.example.dopamines.domain.board.project.service.ProjectPostService;
 import com.example.dopamines.domain.user.service.UserService;
+import com.example.dopamines.global.common.BaseException;
 import com.example.dopamines.global.common.BaseResponse;
 import com.example.dopamines.global.common.BaseResponseStatus;
 import com.example.dopamines.global.common.annotation.CheckAuthentication;
 import com.example.dopamines.global.infra.s3.CloudFileUploadService;
 import com.example.dopamines.global.security.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +22,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -38,6 +41,18 @@ public class ProjectPostController {
         return ResponseEntity.status(HttpStatus.OK).body(new BaseResponse<>(savedFileName));
     }
 
+    // 소스 zip 은 multipart 로 받지 않고 요청 본문을 그대로 S3 로 스트리밍 (반환된 URL 을 update 의 sourceUrl 로 전달)
+    @CheckAuthentication
+    @PutMapping("/upload-source")
+    public ResponseEntity<BaseResponse<String>> uploadSource(HttpServletRequest request, @RequestParam String filename) throws IOException {
+        // Content-Length 가 있으면 읽기 전에 거절 (없거나 속인 경우는 업로드 중에 크기를 세어 중단)
+        if (request.getContentLengthLong() > cloudFileUploadService.getMaxStreamBytes()) {
+            throw new BaseException(BaseResponseStatus.FILE_TOO_LARGE);
+        }
+        String sourceUrl = cloudFileUploadService.uploadStream(request.getInputStream(), filename, request.getContentType(), rootType);
+        return ResponseEntity.status(HttpStatus.OK).body(new BaseResponse<>(sourceUrl));
+    }
+
     @PostMapping("/create")
     public ResponseEntity<BaseResponse<ProjectPostRes>> create(@RequestPart ProjectPostReq req) {
         System.out.println(req);
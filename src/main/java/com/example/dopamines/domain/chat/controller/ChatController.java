@@ -3,43 +3,78 @@ package com.example.dopamines.domain.chat.controller;
 
 import com.example.dopamines.domain.chat.model.request.ChatMessageReq;
 import com.example.dopamines.domain.chat.service.MessageService;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.example.dopamines.global.infra.kafka.KafkaConstants;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.MimeTypeUtils;
 
 
 @Slf4j
 @Controller
 @RequiredArgsConstructor
 public class ChatController {
+    private static final String WRITE_BEHIND = "write-behind";
+    private static final String ROOM_DESTINATION = "/sub/room/";
 
     private final KafkaTemplate<String, ChatMessageReq> kafkaTemplate;
     private final SimpMessagingTemplate messagingTemplate;
     private final MessageService messageService;
     private final ObjectMapper objectMapper;
 
+    // sync : 저장 후 전송 (기본값) / write-behind : 즉시 전송, 저장은 ChatMessagePersistService 가 batch 로 처리
+    @Value("${chat.persistence.mode:sync}")
+    private String persistenceMode;
+
     @MessageMapping("/chat.sendMessage/{roomId}")
     public void sendMessage(@DestinationVariable String roomId, /*@Header("Authorization") String authHeader ,*/ @Payload ChatMessageReq chatMessage) {
-        log.info("[SENDER - {}] messages : {}", chatMessage.getSender(), chatMessage.getContent());
 //        String bearerToken = authHeader.split(" ")[1];
-        chatMessage = messageService.sendMessage(/*bearerToken,*/ chatMessage); // db 저장
-        kafkaTemplate.send("chat-room", chatMessage); // 카프카에 메시지 전송
+        if (WRITE_BEHIND.equals(persistenceMode)) {
+            chatMessage = messageService.prepareMessage(chatMessage);
+        } else {
+            chatMessage = messageService.sendMessage(/*bearerToken,*/ chatMessage); // db 저장
+        }
+        log.info("[SENDER - {}] messages : {}", chatMessage.getSender(), chatMessage.getContent());
+        kafkaTemplate.send(KafkaConstants.CHAT_TOPIC, chatMessage.getRoomId(), chatMessage); // 방 id 를 key 로 전송 -> 같은 방은 같은 파티션
     }
 
-    @KafkaListener(topicPattern = "chat-room")
-    public void consumeMessage(ConsumerRecord<String, Object> record) throws JsonProcessingException {
-        String message = objectMapper.writeValueAsString(record.value());
-        ChatMessageReq sendMessageReq = objectMapper.readValue(message, ChatMessageReq.class);
-        messagingTemplate.convertAndSend("/sub/room/" + sendMessageReq.getRoomId(), sendMessageReq);
+    // 기본 : consumer 에서 ChatMessageReq 로 역직렬화된 값을 그대로 전달 (STOMP 전송 시 한 번만 직렬화)
+    @KafkaListener(topicPattern = KafkaConstants.CHAT_TOPIC, autoStartup = "#{!${chat.kafka.raw-forward:false}}")
+    public void consumeMessage(List<ConsumerRecord<String, ChatMessageReq>> records) {
+        for (ConsumerRecord<String, ChatMessageReq> record : records) {
+            ChatMessageReq message = record.value();
+            messagingTemplate.convertAndSend(ROOM_DESTINATION + message.getRoomId(), message);
+        }
+    }
+
+    // chat.kafka.raw-forward=true : 역직렬화/재직렬화 없이 카프카 payload bytes 를 구독자에게 그대로 전달
+    @KafkaListener(topicPattern = KafkaConstants.CHAT_TOPIC, containerFactory = "rawChatListenerContainerFactory",
+            autoStartup = "${chat.kafka.raw-forward:false}")
+    public void forwardMessage(List<ConsumerRecord<String, byte[]>> records) throws IOException {
+        for (ConsumerRecord<String, byte[]> record : records) {
+            String roomId = record.key();
+            if (roomId == null) { // key 없이 들어온 이전 메시지
+                roomId = objectMapper.readTree(record.value()).path("roomId").asText();
+            }
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            accessor.setLeaveMutable(true);
+            messagingTemplate.send(ROOM_DESTINATION + roomId, MessageBuilder.createMessage(record.value(), accessor.getMessageHeaders()));
+        }
     }
 }
@@ -2,10 +2,13 @@ package com.example.dopamines.domain.chat.controller;
 
 import com.example.dopamines.domain.chat.model.request.ChatRoomReq;
 import com.example.dopamines.domain.chat.model.response.ChatMessageRes;
+import com.example.dopamines.domain.chat.model.response.ChatOutboundStatsRes;
 import com.example.dopamines.domain.chat.model.response.ChatRoomRes;
 import com.example.dopamines.domain.chat.service.ChatRoomService;
+import com.example.dopamines.domain.chat.service.ChatStatsService;
 import com.example.dopamines.domain.user.model.entity.User;
 import com.example.dopamines.global.common.BaseResponse;
+import com.example.dopamines.global.common.annotation.CheckAdmin;
 import com.example.dopamines.global.common.annotation.CheckAuthentication;
 import com.example.dopamines.global.security.CustomUserDetails;
 import java.util.List;
@@ -24,6 +27,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class ChatRoomController {
     private final ChatRoomService chatRoomService;
+    private final ChatStatsService chatStatsService;
 
     // 채팅방을 만들어서 반환하는 기능
     @PostMapping(value = "/room")
@@ -37,18 +41,25 @@ public class ChatRoomController {
      // 현재 접속한 유저가 속한 채팅룸 리스트 받아오는 기능
     @GetMapping("/rooms")
     @CheckAuthentication
-    public ResponseEntity<BaseResponse<List<ChatRoomRes>>> getChatRoomList(@AuthenticationPrincipal CustomUserDetails customUserDetails){
+    public ResponseEntity<BaseResponse<List<ChatRoomRes>>> getChatRoomList(@AuthenticationPrincipal CustomUserDetails customUserDetails, Long lastIdx, Integer size){
         User user = customUserDetails.getUser();
-        List<ChatRoomRes> participatedRooms = chatRoomService.findAll(user);
+        List<ChatRoomRes> participatedRooms = chatRoomService.findAll(user, lastIdx, size);
         return ResponseEntity.ok(new BaseResponse<>(participatedRooms));
     }
 
     // 채팅방 메시지들을 받아오는 기능
     @GetMapping("/rooms/{roomId}/messages")
-    public ResponseEntity<BaseResponse<List<ChatMessageRes>>> getMessages(@PathVariable String roomId) {
-        List<ChatMessageRes> messages = chatRoomService.getAllMessage(roomId);
+    public ResponseEntity<BaseResponse<List<ChatMessageRes>>> getMessages(@PathVariable String roomId, Long before, Integer limit) {
+        List<ChatMessageRes> messages = chatRoomService.getMessages(roomId, before, limit);
         return ResponseEntity.ok(new BaseResponse<>(messages));
     }
 
+    // websocket 출력 채널 상태 (세션별 대기 frame, 버린 frame, 끊은 세션)
+    @GetMapping("/stats")
+    @CheckAdmin
+    public ResponseEntity<BaseResponse<ChatOutboundStatsRes>> getOutboundStats() {
+        return ResponseEntity.ok(new BaseResponse<>(chatStatsService.getOutboundStats()));
+    }
+
     //TODO: 채팅방 삭제 or 나가기 기능
 }
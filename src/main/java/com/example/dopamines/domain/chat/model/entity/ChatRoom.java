@@ -22,6 +22,7 @@ public class ChatRoom {
     private String buyer;
 
     private boolean status;
+    private long lastSeq; // 마지막으로 발급한 메시지 순번
     private LocalDate createdAt;
     private LocalDate updatedAt;
 
@@ -1,6 +1,6 @@
 package com.example.dopamines.domain.chat.model.request;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,5 +20,6 @@ public class ChatMessageReq {
     private String content;
     private String sender; // 보내는 사람
     private Long senderIdx; // 보내는 사람 idx
-    private LocalDate createdAt;
+    private Long seq; // 채팅방 내 메시지 순번
+    private LocalDateTime createdAt;
 }
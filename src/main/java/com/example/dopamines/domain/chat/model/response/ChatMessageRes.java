@@ -1,6 +1,6 @@
 package com.example.dopamines.domain.chat.model.response;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,5 +19,6 @@ public class ChatMessageRes {
     private String content;
     private String sender;
     private String senderIdx;
-    private LocalDate createdAt;
+    private Long seq; // 채팅방 내 메시지 순번
+    private LocalDateTime createdAt;
 }
@@ -0,0 +1,14 @@
+package com.example.dopamines.domain.chat.model.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ChatOutboundStatsRes {
+    private Integer sessions; // 연결된 websocket 세션 수
+    private Long pendingFrames; // 세션별 미전송 frame 합계
+    private Integer executorQueueDepth; // clientOutboundChannel executor 대기열 길이
+    private Long droppedFrames;
+    private Long disconnectedSessions; // 느린 소비자로 끊은 세션 수
+}
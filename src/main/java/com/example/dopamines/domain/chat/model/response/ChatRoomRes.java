@@ -13,4 +13,6 @@ public class ChatRoomRes {
     private String buyer;
     private MarketReadRes product;
     private LocalDate updatedAt;
+    private String lastMessage; // 마지막 메시지 미리보기
+    private Long cursor; // 다음 페이지 조회 시 lastIdx 로 전달
 }
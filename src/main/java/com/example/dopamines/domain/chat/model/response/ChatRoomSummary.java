@@ -0,0 +1,25 @@
+package com.example.dopamines.domain.chat.model.response;
+
+import java.time.LocalDate;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 채팅방 목록 조회용 projection (채팅방 + 상품 요약 + 판매자 닉네임 + 마지막 메시지)
+@Data
+@NoArgsConstructor
+public class ChatRoomSummary {
+    private Long cursor; // participated_chat_room idx (keyset cursor)
+    private String roomIdx;
+    private String buyer;
+    private LocalDate updatedAt;
+
+    private Long postIdx;
+    private String title;
+    private Integer price;
+    private String mainImage;
+    private Boolean status;
+    private LocalDate createdAt;
+    private String author; // 판매자 닉네임
+
+    private String lastMessage;
+}
@@ -2,10 +2,30 @@ package com.example.dopamines.domain.chat.repository;
 
 import com.example.dopamines.domain.chat.model.entity.ChatMessage;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
-    @Query("SELECT m FROM ChatMessage m JOIN FETCH m.chatRoom c JOIN FETCH m.sender s WHERE c.idx = :chatRoomIdx")
-    List<ChatMessage> findAllById(String chatRoomIdx);
+    // (chat_room_idx, seq) 인덱스를 타는 최신 메시지 페이지
+    @Query("SELECT m FROM ChatMessage m JOIN FETCH m.sender s WHERE m.chatRoom.idx = :chatRoomIdx ORDER BY m.seq DESC")
+    List<ChatMessage> findLatest(String chatRoomIdx, Pageable pageable);
+
+    @Query("SELECT m FROM ChatMessage m JOIN FETCH m.sender s WHERE m.chatRoom.idx = :chatRoomIdx AND m.seq < :before ORDER BY m.seq DESC")
+    List<ChatMessage> findBefore(String chatRoomIdx, Long before, Pageable pageable);
+
+    // seq 컬럼 추가 전에 쌓인 메시지에 채팅방별 idx 순서대로 순번 부여
+    // 도입 후 새 메시지가 이미 쌓인 방은 기존 메시지를 0 이하 순번으로 채워 순서와 (chat_room_idx, seq) 유일성을 지킨다
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE chat_message m"
+            + " JOIN (SELECT idx, chat_room_idx,"
+            + " ROW_NUMBER() OVER (PARTITION BY chat_room_idx ORDER BY idx) AS rn,"
+            + " COUNT(*) OVER (PARTITION BY chat_room_idx) AS cnt"
+            + " FROM chat_message WHERE seq IS NULL) n ON n.idx = m.idx"
+            + " JOIN chat_room r ON r.idx = n.chat_room_idx"
+            + " SET m.seq = CASE WHEN r.last_seq > 0 THEN n.rn - n.cnt ELSE n.rn END", nativeQuery = true)
+    int backfillSeq();
 }
@@ -4,8 +4,32 @@ import com.example.dopamines.domain.board.market.model.entity.MarketPost;
 import com.example.dopamines.domain.chat.model.entity.ChatRoom;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, String> {
     boolean existsAllByBuyerAndMarketPost(String buyer, MarketPost marketPost);
+
+    // 메시지 순번 발급 - 트랜잭션이 끝날 때까지 해당 채팅방 row 가 잠겨 순번이 겹치지 않는다
+    @Modifying
+    @Query("UPDATE ChatRoom c SET c.lastSeq = c.lastSeq + :count WHERE c.idx = :idx")
+    int increaseLastSeq(String idx, long count);
+
+    @Query("SELECT c.lastSeq FROM ChatRoom c WHERE c.idx = :idx")
+    Long findLastSeqByIdx(String idx);
+
+    // 판매자 본인의 판매 완료된 게시글의 채팅방 일괄 종료 (status true = 열린 방, 이미 닫힌 방은 그대로)
+    @Modifying
+    @Query("UPDATE ChatRoom c SET c.status = false WHERE c.status = true AND c.marketPost.idx IN :postIdxList "
+            + "AND c.marketPost.user.idx = :sellerIdx AND c.marketPost.status = true")
+    int closeAllSoldBySeller(List<Long> postIdxList, Long sellerIdx);
+
+    // 순번을 채운 뒤 다음 발급 순번이 기존 메시지와 겹치지 않도록 맞춘다
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE chat_room r"
+            + " JOIN (SELECT chat_room_idx, MAX(seq) AS max_seq FROM chat_message GROUP BY chat_room_idx) s ON s.chat_room_idx = r.idx"
+            + " SET r.last_seq = GREATEST(r.last_seq, s.max_seq)", nativeQuery = true)
+    int syncLastSeq();
 }
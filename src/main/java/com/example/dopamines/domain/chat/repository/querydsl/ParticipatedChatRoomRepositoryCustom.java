@@ -0,0 +1,9 @@
+package com.example.dopamines.domain.chat.repository.querydsl;
+
+import com.example.dopamines.domain.chat.model.response.ChatRoomSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface ParticipatedChatRoomRepositoryCustom {
+    Slice<ChatRoomSummary> findSummariesByUser(Long userIdx, Long lastIdx, Pageable pageable);
+}
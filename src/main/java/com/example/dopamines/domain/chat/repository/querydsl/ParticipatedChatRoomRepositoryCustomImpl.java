@@ -0,0 +1,91 @@
+package com.example.dopamines.domain.chat.repository.querydsl;
+
+import com.example.dopamines.domain.board.market.model.entity.QMarketPost;
+import com.example.dopamines.domain.chat.model.entity.QChatMessage;
+import com.example.dopamines.domain.chat.model.entity.QChatRoom;
+import com.example.dopamines.domain.chat.model.entity.QParticipatedChatRoom;
+import com.example.dopamines.domain.chat.model.response.ChatRoomSummary;
+import com.example.dopamines.domain.user.model.entity.QUser;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class ParticipatedChatRoomRepositoryCustomImpl implements ParticipatedChatRoomRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+    private QParticipatedChatRoom participatedChatRoom;
+    private QChatRoom chatRoom;
+    private QMarketPost marketPost;
+    private QUser seller;
+    private QChatMessage chatMessage;
+    private QChatMessage latestMessage;
+
+    public ParticipatedChatRoomRepositoryCustomImpl(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+        this.participatedChatRoom = QParticipatedChatRoom.participatedChatRoom;
+        this.chatRoom = QChatRoom.chatRoom;
+        this.marketPost = QMarketPost.marketPost;
+        this.seller = new QUser("seller");
+        this.chatMessage = QChatMessage.chatMessage;
+        this.latestMessage = new QChatMessage("latestMessage");
+    }
+
+    // 방 목록, 상품 요약, 판매자 닉네임, 마지막 메시지를 한 번의 쿼리로 조회 (participated idx 기준 keyset 페이징)
+    @Override
+    public Slice<ChatRoomSummary> findSummariesByUser(Long userIdx, Long lastIdx, Pageable pageable) {
+        List<ChatRoomSummary> result = queryFactory
+                .select(Projections.fields(ChatRoomSummary.class,
+                        participatedChatRoom.idx.as("cursor"),
+                        chatRoom.idx.as("roomIdx"),
+                        chatRoom.buyer,
+                        chatRoom.updatedAt,
+                        marketPost.idx.as("postIdx"),
+                        marketPost.title,
+                        marketPost.price,
+                        marketPost.mainImage,
+                        marketPost.status,
+                        marketPost.createdAt,
+                        seller.nickname.as("author"),
+                        ExpressionUtils.as(
+                                JPAExpressions.select(chatMessage.content)
+                                        .from(chatMessage)
+                                        .where(chatMessage.idx.eq(
+                                                JPAExpressions.select(latestMessage.idx.max())
+                                                        .from(latestMessage)
+                                                        .where(latestMessage.chatRoom.eq(chatRoom)))),
+                                "lastMessage")
+                ))
+                .from(participatedChatRoom)
+                .join(participatedChatRoom.chatRoom, chatRoom)
+                .join(chatRoom.marketPost, marketPost)
+                .join(marketPost.user, seller)
+                .where(participatedChatRoom.user.idx.eq(userIdx), idxLessThan(lastIdx))
+                .orderBy(participatedChatRoom.idx.desc())
+                .limit(pageable.getPageSize()+1)
+                .fetch();
+
+        boolean hasNext = false;
+
+        if (result.size() > pageable.getPageSize()) {
+            result.remove(pageable.getPageSize());
+            hasNext = true;
+        }
+
+        return new SliceImpl<>(result, pageable, hasNext);
+    }
+
+    private BooleanExpression idxLessThan(Long lastIdx) {
+        if (lastIdx == null) {
+            return null;
+        }
+        return participatedChatRoom.idx.lt(lastIdx);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.dopamines.domain.chat.service;
+
+import com.example.dopamines.domain.chat.model.request.ChatMessageReq;
+import com.example.dopamines.global.infra.kafka.KafkaConstants;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// write-behind 모드에서 chat-room 토픽의 메시지를 별도 consumer group 으로 받아 JDBC batch insert
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.persistence.mode", havingValue = "write-behind")
+public class ChatMessagePersistService {
+    private static final String INSERT_SQL =
+            "INSERT INTO chat_message (seq, content, created_at, sender_idx, chat_room_idx) VALUES (?, ?, ?, ?, ?)";
+    private static final String INCREASE_SEQ_SQL = "UPDATE chat_room SET last_seq = last_seq + ? WHERE idx = ?";
+    private static final String SELECT_SEQ_SQL = "SELECT last_seq FROM chat_room WHERE idx = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @KafkaListener(topics = KafkaConstants.CHAT_TOPIC,
+            groupId = KafkaConstants.CHAT_PERSIST_GROUP_ID,
+            containerFactory = "chatPersistListenerContainerFactory")
+    public void persist(List<ChatMessageReq> messages) {
+        try {
+            transactionTemplate.executeWithoutResult((status) -> insertBatch(messages));
+        } catch (DataAccessException e) {
+            // 잘못된 메시지(존재하지 않는 방/회원 등) 하나 때문에 batch 전체를 잃지 않도록 건별로 재시도
+            log.warn("[CHAT][PERSIST] batch insert failed ({} messages), retrying one by one", messages.size(), e);
+            messages.forEach(this::persistOne);
+        }
+    }
+
+    private void persistOne(ChatMessageReq message) {
+        try {
+            transactionTemplate.executeWithoutResult((status) -> insertBatch(List.of(message)));
+        } catch (DataAccessException e) {
+            log.error("[CHAT][PERSIST] drop message room : {} sender : {}", message.getRoomId(), message.getSenderIdx(), e);
+        }
+    }
+
+    private void insertBatch(List<ChatMessageReq> messages) {
+        // 순번은 전송 전에 ChatSeqAllocator 가 발급한다. 순번 없이 들어온 이전 메시지만 방 단위로 한 번에 발급
+        // (방 id 순서로 잠가 consumer 간 교착을 피한다)
+        Map<String, List<ChatMessageReq>> byRoom = new TreeMap<>();
+        for (ChatMessageReq message : messages) {
+            if (message.getSeq() != null) {
+                continue;
+            }
+            byRoom.computeIfAbsent(message.getRoomId(), (roomId) -> new ArrayList<>()).add(message);
+        }
+
+        for (Map.Entry<String, List<ChatMessageReq>> room : byRoom.entrySet()) {
+            List<ChatMessageReq> roomMessages = room.getValue();
+            jdbcTemplate.update(INCREASE_SEQ_SQL, roomMessages.size(), room.getKey());
+            long lastSeq = jdbcTemplate.queryForObject(SELECT_SEQ_SQL, Long.class, room.getKey());
+
+            long seq = lastSeq - roomMessages.size();
+            for (ChatMessageReq message : roomMessages) {
+                message.setSeq(++seq);
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setLong(1, message.getSeq());
+            ps.setString(2, message.getContent());
+            ps.setObject(3, message.getCreatedAt());
+            ps.setLong(4, message.getSenderIdx());
+            ps.setString(5, message.getRoomId());
+        });
+    }
+}
@@ -17,6 +17,7 @@ import com.example.dopamines.domain.chat.model.request.ChatRoomReq;
 
 import com.example.dopamines.domain.chat.model.response.ChatMessageRes;
 import com.example.dopamines.domain.chat.model.response.ChatRoomRes;
+import com.example.dopamines.domain.chat.model.response.ChatRoomSummary;
 import com.example.dopamines.domain.chat.repository.ChatMessageRepository;
 import com.example.dopamines.domain.chat.repository.ChatRoomRepository;
 import com.example.dopamines.domain.chat.repository.ParticipatedChatRoomRepository;
@@ -25,14 +26,29 @@ import com.example.dopamines.domain.user.repository.UserRepository;
 import com.example.dopamines.global.common.BaseException;
 import com.example.dopamines.global.common.BaseResponse;
 import com.example.dopamines.global.common.BaseResponseStatus;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatRoomService {
+    private static final int DEFAULT_ROOM_PAGE_SIZE = 20;
+    private static final int MAX_ROOM_PAGE_SIZE = 100;
+    private static final int LAST_MESSAGE_PREVIEW_LENGTH = 50;
+    private static final int DEFAULT_MESSAGE_PAGE_SIZE = 50;
+    private static final int MAX_MESSAGE_PAGE_SIZE = 100;
+
     private final ParticipatedChatRoomRepository participatedChatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final MarketPostRepository marketPostRepository;
@@ -45,25 +61,52 @@ public class ChatRoomService {
     private final ChatMessageMapper chatMessageMapper;
     private final MarketPostMapper marketPostMapper;
 
-    public List<ChatRoomRes> findAll(User user) { // 구매자
-        List<ParticipatedChatRoom> chatRooms = participatedChatRoomRepository.findAllByUser(user);
-        List<ChatRoomRes> dto = chatRooms.stream().map((room) ->{
-            Long postIdx = room.getChatRoom().getMarketPost().getIdx(); // 게시글 idx
-            MarketPost post = marketPostRepository.findByIdWithImages(postIdx); // 포스트
-            String author = post.getUser().getName(); // 판매자
-
-            return ChatRoomRes.builder()
-                    .idx(room.getChatRoom().getIdx())
-                    .product(marketPostMapper.toDto(post,author)) //author
-                    .buyer(room.getChatRoom().getBuyer())
-                    .updatedAt(room.getChatRoom().getUpdatedAt())
-                    .build();
+    @Value("${chat.message.seq-backfill-on-startup:false}")
+    private boolean seqBackfillOnStartup;
 
+    // seq 컬럼 도입 시 한 번만 켜서 기존 메시지 순번과 채팅방 last_seq 를 채운다 (seq 가 NULL 인 메시지는 이력 조회에 나오지 않는다)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSeq() {
+        if (seqBackfillOnStartup) {
+            int messages = chatMessageRepository.backfillSeq();
+            int rooms = chatRoomRepository.syncLastSeq();
+            log.info("[CHAT][SEQ BACKFILL] => messages: {}, rooms: {}", messages, rooms);
         }
+    }
 
-        ).collect(Collectors.toList());
+    public List<ChatRoomRes> findAll(User user, Long lastIdx, Integer size) { // 구매자
+        int pageSize = (size == null || size <= 0) ? DEFAULT_ROOM_PAGE_SIZE : Math.min(size, MAX_ROOM_PAGE_SIZE);
+        Pageable pageable = PageRequest.of(0, pageSize);
+        Slice<ChatRoomSummary> rooms = participatedChatRoomRepository.findSummariesByUser(user.getIdx(), lastIdx, pageable);
 
-        return dto;
+        return rooms.stream()
+                .map(this::toChatRoomRes)
+                .collect(Collectors.toList());
+    }
+
+    private ChatRoomRes toChatRoomRes(ChatRoomSummary room) {
+        MarketReadRes product = new MarketReadRes();
+        product.setIdx(room.getPostIdx());
+        product.setTitle(room.getTitle());
+        product.setPrice(room.getPrice());
+        product.setCreatedAt(room.getCreatedAt());
+        product.setAuthor(room.getAuthor()); // 판매자
+        product.setMainImage(room.getMainImage());
+        product.setStatus(room.getStatus());
+
+        String lastMessage = room.getLastMessage();
+        if (lastMessage != null && lastMessage.length() > LAST_MESSAGE_PREVIEW_LENGTH) {
+            lastMessage = lastMessage.substring(0, LAST_MESSAGE_PREVIEW_LENGTH);
+        }
+
+        return ChatRoomRes.builder()
+                .idx(room.getRoomIdx())
+                .product(product)
+                .buyer(room.getBuyer())
+                .updatedAt(room.getUpdatedAt())
+                .lastMessage(lastMessage)
+                .cursor(room.getCursor())
+                .build();
     }
 
     public ChatRoomRes create(ChatRoomReq req, User sender) {
@@ -107,11 +150,19 @@ public class ChatRoomService {
         return chatRoomMapper.toDto(chatRoom, res);
     }
 
-    public List<ChatMessageRes> getAllMessage(String roomId) {
-        List<ChatMessage> messages = chatMessageRepository.findAllById(roomId);
+    public List<ChatMessageRes> getMessages(String roomId, Long before, Integer limit) {
+        int size = (limit == null || limit <= 0) ? DEFAULT_MESSAGE_PAGE_SIZE : Math.min(limit, MAX_MESSAGE_PAGE_SIZE);
+        Pageable pageable = PageRequest.of(0, size);
+
+        List<ChatMessage> messages = (before == null)
+                ? chatMessageRepository.findLatest(roomId, pageable)
+                : chatMessageRepository.findBefore(roomId, before, pageable);
+
+        // 최신순으로 조회한 페이지를 시간순으로 돌려준다 (다음 페이지는 첫 메시지의 seq 를 before 로 전달)
         List<ChatMessageRes> responses = messages.stream().map(
                 (message) -> chatMessageMapper.toDto(message, message.getSender().getName(), message.getSender().getIdx())
         ).collect(Collectors.toList());
+        Collections.reverse(responses);
         return responses;
     }
 }
@@ -0,0 +1,50 @@
+package com.example.dopamines.domain.chat.service;
+
+import com.example.dopamines.domain.user.model.entity.User;
+import com.example.dopamines.domain.user.repository.UserRepository;
+import com.example.dopamines.global.common.BaseException;
+import com.example.dopamines.global.common.BaseResponseStatus;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 idx -> 채팅에 표시할 이름. write-behind 모드에서 메시지마다 회원을 조회하지 않도록 사용한다.
+ * 이름 변경은 expire 후 다시 읽을 때 반영된다.
+ */
+@Component
+public class ChatSenderCache {
+    private final UserRepository userRepository;
+    private final LoadingCache<Long, String> senderNames;
+
+    public ChatSenderCache(UserRepository userRepository,
+                           @Value("${chat.sender.cache.max-users:10000}") Long maxUsers,
+                           @Value("${chat.sender.cache.ttl-seconds:300}") Long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.senderNames = CacheBuilder.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build(CacheLoader.from(this::load));
+    }
+
+    public String getName(Long userIdx) {
+        try {
+            return senderNames.getUnchecked(userIdx);
+        } catch (UncheckedExecutionException e) {
+            if (e.getCause() instanceof BaseException baseException) {
+                throw baseException;
+            }
+            throw e;
+        }
+    }
+
+    private String load(Long userIdx) {
+        return userRepository.findById(userIdx)
+                .map(User::getName)
+                .orElseThrow(() -> new BaseException(BaseResponseStatus.USER_NOT_FOUND));
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.dopamines.domain.chat.service;
+
+import com.example.dopamines.domain.chat.repository.ChatRoomRepository;
+import com.example.dopamines.global.common.BaseException;
+import com.example.dopamines.global.common.BaseResponseStatus;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * write-behind 모드의 채팅방별 메시지 순번 발급.
+ * chat_room.last_seq 를 block-size 만큼 한 번에 올려 받아 두고, 그 구간 안에서는 DB 없이 순번을 나눠 준다.
+ * 노드마다 서로 다른 구간을 받으므로 순번이 겹치지 않고, 존재하지 않는 방은 구간을 받을 때 걸러진다.
+ * (다 쓰지 못한 구간은 재기동/만료 시 버려지므로 순번에 빈 번호가 생길 수 있다)
+ */
+@Component
+public class ChatSeqAllocator {
+    private final ChatRoomRepository chatRoomRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long blockSize;
+    private final LoadingCache<String, SeqBlock> blocks;
+
+    public ChatSeqAllocator(ChatRoomRepository chatRoomRepository, TransactionTemplate transactionTemplate,
+                            @Value("${chat.seq.block-size:100}") Long blockSize,
+                            @Value("${chat.seq.idle-seconds:600}") Long idleSeconds) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.blockSize = blockSize;
+        this.blocks = CacheBuilder.newBuilder()
+                .expireAfterAccess(idleSeconds, TimeUnit.SECONDS)
+                .build(CacheLoader.from(SeqBlock::new));
+    }
+
+    public long next(String roomId) {
+        SeqBlock block = blocks.getUnchecked(roomId);
+        synchronized (block) {
+            if (block.next > block.last) {
+                block.last = reserve(roomId);
+                block.next = block.last - blockSize + 1;
+            }
+            return block.next++;
+        }
+    }
+
+    // 같은 트랜잭션에서 올리고 읽어야 다른 노드가 올린 값을 읽지 않는다
+    private long reserve(String roomId) {
+        return transactionTemplate.execute((status) -> {
+            if (chatRoomRepository.increaseLastSeq(roomId, blockSize) == 0) {
+                throw new BaseException(BaseResponseStatus.MARKET_ERROR_CHATROOM_NOT_FOUND);
+            }
+            return chatRoomRepository.findLastSeqByIdx(roomId);
+        });
+    }
+
+    private static class SeqBlock {
+        private long next = 1L;
+        private long last = 0L;
+    }
+}
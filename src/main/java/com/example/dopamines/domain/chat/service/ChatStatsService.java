@@ -0,0 +1,29 @@
+package com.example.dopamines.domain.chat.service;
+
+import com.example.dopamines.domain.chat.model.response.ChatOutboundStatsRes;
+import com.example.dopamines.global.interceptor.StompOutboundFlowControlInterceptor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ChatStatsService {
+    private final StompOutboundFlowControlInterceptor outboundFlowControlInterceptor;
+    private final ThreadPoolTaskExecutor clientOutboundChannelExecutor;
+
+    public ChatStatsService(StompOutboundFlowControlInterceptor outboundFlowControlInterceptor,
+                            @Qualifier("clientOutboundChannelExecutor") ThreadPoolTaskExecutor clientOutboundChannelExecutor) {
+        this.outboundFlowControlInterceptor = outboundFlowControlInterceptor;
+        this.clientOutboundChannelExecutor = clientOutboundChannelExecutor;
+    }
+
+    public ChatOutboundStatsRes getOutboundStats() {
+        return ChatOutboundStatsRes.builder()
+                .sessions(outboundFlowControlInterceptor.getSessionCount())
+                .pendingFrames(outboundFlowControlInterceptor.getPendingFrames())
+                .executorQueueDepth(clientOutboundChannelExecutor.getThreadPoolExecutor().getQueue().size())
+                .droppedFrames(outboundFlowControlInterceptor.getDroppedFrames())
+                .disconnectedSessions(outboundFlowControlInterceptor.getDisconnectedSessions())
+                .build();
+    }
+}
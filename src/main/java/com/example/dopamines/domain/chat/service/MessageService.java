@@ -11,8 +11,10 @@ import com.example.dopamines.domain.user.repository.UserRepository;
 import com.example.dopamines.global.common.BaseException;
 import com.example.dopamines.global.common.BaseResponseStatus;
 import com.example.dopamines.global.security.JwtUtil;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -23,18 +25,38 @@ public class MessageService {
     private final ChatMessageMapper chatMessageMapper;
 
     private final UserRepository userRepository;
+    private final ChatSeqAllocator chatSeqAllocator;
+    private final ChatSenderCache chatSenderCache;
 
+    @Transactional
     public ChatMessageReq sendMessage(/*String bearerToken,*/ ChatMessageReq chatMessage) {
+        if (chatRoomRepository.increaseLastSeq(chatMessage.getRoomId(), 1) == 0) {
+            throw new BaseException(BaseResponseStatus.MARKET_ERROR_CHATROOM_NOT_FOUND);
+        }
         ChatRoom chatRoom = chatRoomRepository.findById(chatMessage.getRoomId()).orElseThrow(()->new BaseException(BaseResponseStatus.MARKET_ERROR_CHATROOM_NOT_FOUND));
 
         User sender = userRepository.findById(chatMessage.getSenderIdx()).orElseThrow(() -> new BaseException(BaseResponseStatus.USER_NOT_FOUND));
 
         ChatMessage message = chatMessageMapper.toEntity(chatMessage, sender, chatRoom);
+        message.setSeq(chatRoom.getLastSeq());
         chatMessageRepository.save(message);
 
         chatMessage.setSender(message.getSender().getName());
         chatMessage.setSenderIdx(sender.getIdx());
         chatMessage.setCreatedAt(message.getCreatedAt());
+        chatMessage.setSeq(message.getSeq());
+
+        return chatMessage;
+    }
+
+    // write-behind 모드 : 순번은 미리 받아 둔 구간에서, 보낸 사람 이름은 캐시에서 채워 바로 전송 (저장은 ChatMessagePersistService)
+    public ChatMessageReq prepareMessage(ChatMessageReq chatMessage) {
+        if (chatMessage.getSenderIdx() == null || chatMessage.getRoomId() == null) {
+            throw new BaseException(BaseResponseStatus.CHAT_NOT_SEND);
+        }
+        chatMessage.setSender(chatSenderCache.getName(chatMessage.getSenderIdx()));
+        chatMessage.setSeq(chatSeqAllocator.next(chatMessage.getRoomId()));
+        chatMessage.setCreatedAt(LocalDateTime.now());
 
         return chatMessage;
     }
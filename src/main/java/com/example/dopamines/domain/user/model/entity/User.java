@@ -84,11 +84,19 @@ public class User {
         this.status = true;
         this.courseNum = courseNum;
         this.role = "ROLE_USER";
+        this.updatedAt = LocalDateTime.now();
     }
 
     //Todo : Q)자체 로직으로 ADMIN 계정인지 확인할 지 고민
     public void setToBlackList(){
         this.status = false;
+        this.updatedAt = LocalDateTime.now(); // TokenRevocationService 가 변경분을 읽어가는 기준
+    }
+
+    // 로그인 시 BCrypt cost 가 바뀌었으면 새 해시로 교체
+    public void updatePassword(String password) {
+        this.password = password;
+        this.updatedAt = LocalDateTime.now();
     }
 
     // 이메일 검증
@@ -1,10 +1,23 @@
 package com.example.dopamines.domain.user.repository;
 
 import com.example.dopamines.domain.user.model.entity.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface UserRepository extends JpaRepository<User,Long> {
 
     Optional<User> findByEmail(String email);
+
+    @Query("SELECT u.idx FROM User u WHERE u.status = false")
+    List<Long> findBlackListIdx();
+
+    List<User> findAllByUpdatedAtAfter(LocalDateTime updatedAt);
+
+    // [idx, nickname]
+    @Query("SELECT u.idx, u.nickname FROM User u WHERE u.idx IN :idxList")
+    List<Object[]> findNicknamesByIdxIn(Collection<Long> idxList);
 }
@@ -6,19 +6,28 @@ import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 @Aspect
 @Slf4j
 @Component
 public class AdministrationAspect {
+    private static final String ROLE_ADMIN = "ROLE_ADMIN";
+
     @Pointcut("@annotation(com.example.dopamines.global.common.annotation.CheckAdmin)")
     public void adminCheck() {
     }
 
+    // JwtFilter 가 SecurityContext 에 넣은 인증 정보의 권한으로 확인 (비로그인/일반 회원은 거절)
     public boolean isAdmin() {
-        //TODO 관리자 확인 작업 로직 필요
-        return true;
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+        return authentication.getAuthorities().stream()
+                .anyMatch((authority) -> ROLE_ADMIN.equals(authority.getAuthority()));
     }
 
     @Before("adminCheck()")
@@ -26,7 +35,7 @@ public class AdministrationAspect {
         log.info("[ADMIN][ASPECT] check admin");
         // 관리자 권한 체크
         if (!isAdmin()) {
-            throw new BaseException(BaseResponseStatus.NOTICE_IS_NOT_AUTHORIZED);
+            throw new BaseException(BaseResponseStatus.ADMIN_NOT_AUTHORIZED);
         }
     }
 }
@@ -125,6 +125,7 @@ public enum BaseResponseStatus {
     MARKET_EMPTY_CONTENT(false, 4210, "내용을 입력해주세요."),
     MARKET_EMPTY_PRICE(false, 4211, "가격을 입력해주세요."),
     MARKET_EMPTY_IMAGE(false, 4212, "이미지를 등록해주세요."),
+    MARKET_NOT_AUTHORIZED(false, 4213, "해당 게시글에 대한 권한이 없습니다."),
 
     /**
      * 4300 : MARKET_CHAT 에러 - 송연
@@ -240,6 +241,12 @@ public enum BaseResponseStatus {
     INVALID_FILE(false, 6004, "잘못된 파일입니다."),
     // 잘못된 이미지
     INVALID_IMAGE(false, 6005, "잘못된 이미지입니다."),
+    // 처리 대기열 초과
+    TOO_MANY_REQUESTS(false, 6006, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    // 잘못된 페이지 커서
+    INVALID_CURSOR(false, 6007, "잘못된 페이지 커서입니다."),
+    // 업로드 크기 초과
+    FILE_TOO_LARGE(false, 6008, "파일 크기가 너무 큽니다."),
 
     //Todo : 아래 내용은 추후 삭제할 것
     POST_USERS_EMPTY_EMAIL(false, 3002, "이메일을 입력해주세요."),
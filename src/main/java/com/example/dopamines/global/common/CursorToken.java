@@ -0,0 +1,35 @@
+package com.example.dopamines.global.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+// keyset 페이징 위치를 클라이언트에 불투명한 문자열로 전달하기 위한 인코더
+public final class CursorToken {
+
+    private CursorToken() {
+    }
+
+    public static String encode(long... values) {
+        String raw = Arrays.stream(values)
+                .mapToObj(Long::toString)
+                .collect(Collectors.joining(":"));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 첫 페이지 요청이면 null
+    public static long[] decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            return Arrays.stream(raw.split(":"))
+                    .mapToLong(Long::parseLong)
+                    .toArray();
+        } catch (IllegalArgumentException e) {
+            throw new BaseException(BaseResponseStatus.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.dopamines.global.config;
+
+import com.example.dopamines.global.interceptor.StompOutboundFlowControlInterceptor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+/**
+ * @EnableWebSocketMessageBroker 와 같은 설정에 세션 송신 버퍼의 overflow 정책만 바꾼다 (WebSocketConfig 의 설정은 그대로 위임).
+ * 기본 SubProtocolWebSocketHandler 는 세션을 TERMINATE 전략의 ConcurrentWebSocketSessionDecorator 로 감싸
+ * send-buffer-size-limit 를 넘는 순간 세션을 끊는다. drop-oldest 정책이면 DROP 전략으로 감싸 오래된 frame 부터 버린다.
+ * (송신 시간이 send-time-limit-ms 를 넘는 세션은 어느 쪽이든 끊긴다)
+ */
+@Configuration
+public class StompBrokerConfiguration extends DelegatingWebSocketMessageBrokerConfiguration {
+    private final StompOutboundFlowControlInterceptor outboundFlowControlInterceptor;
+
+    public StompBrokerConfiguration(StompOutboundFlowControlInterceptor outboundFlowControlInterceptor) {
+        this.outboundFlowControlInterceptor = outboundFlowControlInterceptor;
+    }
+
+    @Bean
+    @Override
+    public WebSocketHandler subProtocolWebSocketHandler(AbstractSubscribableChannel clientInboundChannel, AbstractSubscribableChannel clientOutboundChannel) {
+        return new SubProtocolWebSocketHandler(clientInboundChannel, clientOutboundChannel) {
+            @Override
+            protected WebSocketSession decorateSession(WebSocketSession session) {
+                OverflowStrategy strategy = outboundFlowControlInterceptor.isDropPolicy() ? OverflowStrategy.DROP : OverflowStrategy.TERMINATE;
+                return new ConcurrentWebSocketSessionDecorator(session, getSendTimeLimit(), getSendBufferSizeLimit(), strategy);
+            }
+        };
+    }
+}
@@ -1,15 +1,92 @@
 package com.example.dopamines.global.config;
 
+import com.example.dopamines.global.interceptor.StompOutboundFlowControlInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.util.AntPathMatcher;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
 
+/**
+ * STOMP 브로커 설정
+ * simple : 인메모리 브로커 (기본값). 로컬/테스트에서 relay 대신 쓰는 in-process 브로커 (chat.kafka.mode=broadcast 만 가능)
+ * relay  : 외부 STOMP 브로커(ActiveMQ 등)로 구독/전달을 위임 -> 구독 상태가 앱 힙 밖에 있어 여러 노드를 LB 뒤에 둘 수 있다
+ *          (RabbitMQ 는 /topic, /queue 등 정해진 prefix 만 허용하므로 /sub 를 쓰려면 ActiveMQ 계열 사용)
+ *          Kafka 채팅 consumer 는 공유 group(CHAT_SHARDED_GROUP_ID) 으로 고정된다 - 메시지당 한 노드만 브로커로 publish
+ * 느린 클라이언트 대응은 StompOutboundFlowControlInterceptor, StompBrokerConfiguration 참고
+ * (@EnableWebSocketMessageBroker 대신 StompBrokerConfiguration 이 브로커 설정을 등록한다)
+ */
 @Configuration
-@EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    private static final String RELAY = "relay";
+
+    @Value("${chat.stomp.broker:simple}")
+    private String brokerMode;
+
+    @Value("${chat.stomp.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${chat.stomp.relay.port:61613}")
+    private Integer relayPort;
+
+    @Value("${chat.stomp.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${chat.stomp.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${chat.stomp.heartbeat-ms:10000}")
+    private Long heartbeatMs;
+
+    @Value("${chat.stomp.inbound.core-pool-size:8}")
+    private Integer inboundCorePoolSize;
+
+    @Value("${chat.stomp.inbound.max-pool-size:16}")
+    private Integer inboundMaxPoolSize;
+
+    @Value("${chat.stomp.inbound.queue-capacity:1000}")
+    private Integer inboundQueueCapacity;
+
+    @Value("${chat.stomp.outbound.core-pool-size:8}")
+    private Integer outboundCorePoolSize;
+
+    @Value("${chat.stomp.outbound.max-pool-size:16}")
+    private Integer outboundMaxPoolSize;
+
+    @Value("${chat.stomp.outbound.queue-capacity:1000}")
+    private Integer outboundQueueCapacity;
+
+    @Value("${chat.stomp.send-time-limit-ms:10000}")
+    private Integer sendTimeLimitMs;
+
+    @Value("${chat.stomp.send-buffer-size-limit:524288}")
+    private Integer sendBufferSizeLimit;
+
+    @Value("${chat.stomp.message-size-limit:65536}")
+    private Integer messageSizeLimit;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    private final StompOutboundFlowControlInterceptor outboundFlowControlInterceptor;
+
+    public WebSocketConfig(StompOutboundFlowControlInterceptor outboundFlowControlInterceptor) {
+        this.outboundFlowControlInterceptor = outboundFlowControlInterceptor;
+    }
+
+    // simple broker 의 heartbeat 는 스케줄러가 있어야 동작한다
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy TaskScheduler taskScheduler) {
+        this.messageBrokerTaskScheduler = taskScheduler;
+    }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -20,7 +97,58 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry){
         //registry.setPathMatcher(new AntPathMatcher(".")); // URL을 / -> .
-        registry.enableSimpleBroker("/sub");
+        if (RELAY.equals(brokerMode)) {
+            registry.enableStompBrokerRelay("/sub")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    .setSystemHeartbeatSendInterval(heartbeatMs)
+                    .setSystemHeartbeatReceiveInterval(heartbeatMs);
+        } else {
+            registry.enableSimpleBroker("/sub")
+                    .setHeartbeatValue(new long[]{heartbeatMs, heartbeatMs})
+                    .setTaskScheduler(messageBrokerTaskScheduler);
+        }
         registry.setApplicationDestinationPrefixes("/pub");
     }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(outboundFlowControlInterceptor);
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory((handler) -> new WebSocketHandlerDecorator(handler) {
+                    @Override
+                    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                        outboundFlowControlInterceptor.register(session);
+                        super.afterConnectionEstablished(session);
+                    }
+
+                    @Override
+                    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                        outboundFlowControlInterceptor.unregister(session.getId());
+                        super.afterConnectionClosed(session, closeStatus);
+                    }
+                });
+    }
 }
@@ -2,8 +2,11 @@ package com.example.dopamines.global.error;
 
 import com.example.dopamines.global.common.BaseException;
 import com.example.dopamines.global.common.BaseResponse;
+import com.example.dopamines.global.common.BaseResponseStatus;
+import java.util.concurrent.RejectedExecutionException;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -16,4 +19,11 @@ public class GlobalExceptionHandler {
         log.error("[ERROR] => code: {} {}", e.getStatus().getCode(), e.getStatus());
         return ResponseEntity.badRequest().body(new BaseResponse<>(e.getStatus()));
     }
+
+    // 비밀번호 해싱 등 bounded executor 대기열 초과
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<BaseResponse> handleRejectedException(RejectedExecutionException e) {
+        log.warn("[ERROR] => rejected : {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(new BaseResponse<>(BaseResponseStatus.TOO_MANY_REQUESTS));
+    }
 }
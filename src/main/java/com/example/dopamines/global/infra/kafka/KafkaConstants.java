@@ -4,4 +4,13 @@ import java.util.UUID;
 
 public final class KafkaConstants {
     public static final String GROUP_ID = UUID.randomUUID().toString();
+
+    public static final String CHAT_TOPIC = "chat-room";
+    // sharded 모드에서 모든 인스턴스가 공유하는 group - 파티션(방)이 인스턴스들에 나뉘어 할당된다
+    public static final String CHAT_SHARDED_GROUP_ID = "chat-room-sharded";
+    // 채팅 메시지 DB 저장(write-behind) 전용 consumer group - 모든 인스턴스가 같은 group 을 공유해 한 번만 저장
+    public static final String CHAT_PERSIST_GROUP_ID = "chat-message-persist";
+
+    // 마켓 게시글 상세 캐시 무효화 - 인스턴스마다 고유 group(GROUP_ID) 으로 모든 노드가 수신
+    public static final String MARKET_CACHE_INVALIDATION_TOPIC = "market-cache-invalidation";
 }
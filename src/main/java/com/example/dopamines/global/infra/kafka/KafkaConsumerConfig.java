@@ -3,9 +3,11 @@ package com.example.dopamines.global.infra.kafka;
 import com.example.dopamines.domain.chat.model.request.ChatMessageReq;
 import com.fasterxml.jackson.databind.ser.std.StringSerializer;
 
+import jakarta.annotation.PostConstruct;
 import java.util.HashMap;
 import java.util.Map;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -20,19 +22,104 @@ import org.springframework.kafka.support.serializer.JsonDeserializer;
 @EnableKafka
 @Configuration
 public class KafkaConsumerConfig {
+    private static final String SHARDED = "sharded";
+    private static final String RELAY = "relay";
+
     @Value("${spring.kafka.producer.bootstrap-servers}")
     private String kafkaBroker;
 
+    // broadcast : 인스턴스마다 고유 group -> 모든 노드가 모든 방의 메시지를 수신 (기본값, simple 브로커용)
+    // sharded   : 모든 인스턴스가 같은 group -> 각 노드는 할당받은 파티션(=방)만 수신
+    //             파티션은 리밸런싱 때마다 옮겨지고 LB 가 이를 따라 라우팅할 수 없으므로
+    //             구독 상태를 외부 브로커에 두는 relay 모드(chat.stomp.broker=relay)에서만 허용한다
+    @Value("${chat.kafka.mode:broadcast}")
+    private String chatKafkaMode;
+
+    // relay 모드에서는 모든 노드가 같은 외부 브로커로 publish 하므로, broadcast group 이면 구독자가 노드 수만큼 중복 수신한다
+    @Value("${chat.stomp.broker:simple}")
+    private String stompBrokerMode;
+
+    // 파티션 수(chat.kafka.partitions)보다 크게 잡으면 남는 스레드는 놀게 된다
+    @Value("${chat.kafka.listener.concurrency:3}")
+    private Integer listenerConcurrency;
+
+    @Value("${chat.kafka.listener.max-poll-records:500}")
+    private Integer listenerMaxPollRecords;
+
+    @Value("${chat.persistence.batch-size:200}")
+    private Integer persistBatchSize;
+
+    @Value("${chat.persistence.batch-wait-ms:50}")
+    private Integer persistBatchWaitMs;
+
     @Bean
     ConcurrentKafkaListenerContainerFactory<String, ChatMessageReq> kafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, ChatMessageReq> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(listenerConcurrency); // 파티션(방 key) 단위로 스레드가 나뉘므로 방 내 순서는 유지된다
+        factory.setBatchListener(true);
         return factory;
     }
 
     @Bean
     public ConsumerFactory<String, ChatMessageReq> consumerFactory() {
-        return new DefaultKafkaConsumerFactory<>(consumerConfigurations(), new StringDeserializer(), new JsonDeserializer<>(ChatMessageReq.class));
+        Map<String, Object> config = new HashMap<>(consumerConfigurations());
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, listenerMaxPollRecords);
+
+        // 타입 헤더 대신 ChatMessageReq 로 바로 역직렬화 (listener 에서 재직렬화할 필요 없음)
+        return new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(), new JsonDeserializer<>(ChatMessageReq.class, false));
+    }
+
+    // raw-forward 모드 : value 를 역직렬화하지 않고 producer 가 만든 JSON bytes 그대로 STOMP 로 전달
+    @Bean
+    ConcurrentKafkaListenerContainerFactory<String, byte[]> rawChatListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(rawChatConsumerFactory());
+        factory.setConcurrency(listenerConcurrency);
+        factory.setBatchListener(true);
+        return factory;
+    }
+
+    @Bean
+    public ConsumerFactory<String, byte[]> rawChatConsumerFactory() {
+        Map<String, Object> config = new HashMap<>(consumerConfigurations());
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, listenerMaxPollRecords);
+
+        return new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(), new ByteArrayDeserializer());
+    }
+
+    // write-behind 저장용 batch listener - 최대 batch-size 개 또는 batch-wait-ms 마다 한 묶음으로 전달
+    @Bean
+    ConcurrentKafkaListenerContainerFactory<String, ChatMessageReq> chatPersistListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, ChatMessageReq> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(chatPersistConsumerFactory());
+        factory.setBatchListener(true);
+        return factory;
+    }
+
+    @Bean
+    public ConsumerFactory<String, ChatMessageReq> chatPersistConsumerFactory() {
+        Map<String, Object> config = new HashMap<>(consumerConfigurations());
+
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, KafkaConstants.CHAT_PERSIST_GROUP_ID);
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, persistBatchSize);
+        config.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, 64 * 1024);
+        config.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, persistBatchWaitMs);
+
+        return new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(), new JsonDeserializer<>(ChatMessageReq.class, false));
+    }
+
+    // 캐시 무효화 수신용 - 노드마다 고유 group, 기동 이후 메시지만 (이전 상태는 TTL 로 정리)
+    @Bean
+    ConcurrentKafkaListenerContainerFactory<String, String> invalidationListenerContainerFactory() {
+        Map<String, Object> config = new HashMap<>(consumerConfigurations());
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, KafkaConstants.GROUP_ID);
+
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(), new StringDeserializer()));
+        return factory;
     }
 
     @Bean
@@ -47,9 +134,22 @@ public class KafkaConsumerConfig {
         config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBroker);
         config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringSerializer.class);
         config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, deserializer);
-        config.put(ConsumerConfig.GROUP_ID_CONFIG, KafkaConstants.GROUP_ID);
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, chatGroupId());
         config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
 
         return config;
     }
+
+    // simple 브로커에서 sharded 를 쓰면 파티션을 가진 노드에 붙은 구독자만 메시지를 받으므로 기동을 막는다
+    @PostConstruct
+    public void validateChatMode() {
+        if (SHARDED.equals(chatKafkaMode) && !RELAY.equals(stompBrokerMode)) {
+            throw new IllegalStateException("chat.kafka.mode=sharded requires chat.stomp.broker=relay");
+        }
+    }
+
+    // relay 모드면 chat.kafka.mode 와 관계없이 공유 group 을 사용 (메시지는 한 노드만 받아 외부 브로커로 한 번 publish)
+    private String chatGroupId() {
+        return RELAY.equals(stompBrokerMode) ? KafkaConstants.CHAT_SHARDED_GROUP_ID : KafkaConstants.GROUP_ID;
+    }
 }
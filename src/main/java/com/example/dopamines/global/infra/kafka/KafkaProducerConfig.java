@@ -40,4 +40,12 @@ public class KafkaProducerConfig {
     public KafkaTemplate<String, ChatMessageReq> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
+
+    // 캐시 무효화 등 key 없이 문자열만 보내는 메시지용
+    @Bean
+    public KafkaTemplate<String, String> invalidationKafkaTemplate() {
+        Map<String, Object> config = new HashMap<>(kafkaProducerConfiguration());
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(config));
+    }
 }
@@ -0,0 +1,52 @@
+package com.example.dopamines.global.infra.kafka;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+/**
+ * chat-room 토픽 설정
+ * 메시지는 방 id 를 key 로 전송되므로 같은 방의 메시지는 항상 같은 파티션에 들어가 순서가 유지된다.
+ * 파티션 수는 listener 병렬도(인스턴스 수 x chat.kafka.listener.concurrency)의 상한이다.
+ * 운영 중 파티션을 늘리면 방 -> 파티션 매핑이 바뀌어 늘리는 순간에는 순서가 섞일 수 있으므로 여유 있게 잡는다.
+ */
+@Configuration
+public class KafkaTopicConfig {
+    @Value("${spring.kafka.producer.bootstrap-servers}")
+    private String kafkaBroker;
+
+    @Value("${chat.kafka.partitions:6}")
+    private Integer partitions;
+
+    @Value("${chat.kafka.replicas:1}")
+    private Integer replicas;
+
+    @Bean
+    public KafkaAdmin kafkaAdmin() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBroker);
+        return new KafkaAdmin(config);
+    }
+
+    @Bean
+    public NewTopic chatRoomTopic() {
+        return TopicBuilder.name(KafkaConstants.CHAT_TOPIC)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+
+    @Bean
+    public NewTopic marketCacheInvalidationTopic() {
+        return TopicBuilder.name(KafkaConstants.MARKET_CACHE_INVALIDATION_TOPIC)
+                .partitions(1)
+                .replicas(replicas)
+                .build();
+    }
+}
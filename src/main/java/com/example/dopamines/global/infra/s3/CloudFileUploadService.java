@@ -1,81 +1,179 @@
 package com.example.dopamines.global.infra.s3;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
-import java.io.File;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.example.dopamines.global.common.BaseException;
+import com.example.dopamines.global.common.BaseResponseStatus;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
-@RequiredArgsConstructor
 public class CloudFileUploadService {
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
-    @Value("${cloud.aws.region.static}")
-    private String location;
+    // S3 multipart 최소 part 크기는 5MB (마지막 part 제외)
+    @Value("${cloud.aws.s3.upload.part-size:8388608}")
+    private int partSize;
+
+    // 길이를 모르는 스트림 업로드(uploadStream)의 최대 크기 - multipart 설정의 max-file-size 를 거치지 않으므로 직접 제한
+    @Value("${cloud.aws.s3.upload.max-stream-bytes:209715200}")
+    private long maxStreamBytes;
+
     private final AmazonS3 amazonS3;
+    private final Executor s3UploadExecutor;
 
+    public CloudFileUploadService(AmazonS3 amazonS3, @Qualifier("s3UploadExecutor") Executor s3UploadExecutor) {
+        this.amazonS3 = amazonS3;
+        this.s3UploadExecutor = s3UploadExecutor;
+    }
 
-    public String makeFolder(String rootType) {
+
+    // S3 object key 의 날짜 prefix (로컬 디렉터리는 만들지 않는다)
+    private String makeKey(String rootType, String originalFilename) {
         String folder = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
+        return rootType + "/" + folder + "/" + UUID.randomUUID() + "_" + StringUtils.getFilename(originalFilename);
+    }
 
-        String folderPath = rootType + "/" + folder;
 
-        File uploadPathFolder = new File(folderPath);
-        if (!uploadPathFolder.exists()) {
-            uploadPathFolder.mkdirs();
-        }
+    public String upload(MultipartFile file, String rootType) {
+        return amazonS3.getUrl(bucketName, uploadObject(file, rootType)).toString();
+    }
 
-        return folderPath;
+    public long getMaxStreamBytes() {
+        return maxStreamBytes;
     }
 
+    // 요청 본문 등 길이를 모르는 스트림을 part 크기 단위로 읽어 바로 S3 로 보낸다 (maxStreamBytes 를 넘으면 업로드 취소)
+    public String uploadStream(InputStream inputStream, String originalFilename, String contentType, String rootType) {
+        String key = makeKey(rootType, originalFilename);
+        try {
+            streamToS3(inputStream, key, contentType, -1, maxStreamBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return amazonS3.getUrl(bucketName, key).toString();
+    }
 
-    public String upload(MultipartFile file, String rootType) {
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(file.getSize());
-        metadata.setContentType(file.getContentType());
+    // 파일별 업로드를 병렬로 실행하고 입력 순서대로 URL 반환 (첫 번째가 대표 이미지)
+    public List<String> uploadImages(MultipartFile[] files, String rootType) {
+        List<CompletableFuture<String>> uploads = new ArrayList<>();
+        for (MultipartFile file : files) {
+            uploads.add(CompletableFuture.supplyAsync(() -> uploadObject(file, rootType), s3UploadExecutor));
+        }
 
-        String uploadPath = makeFolder(rootType);
         try {
-            String fileName = uploadPath + "/" + UUID.randomUUID() + "_" + file.getOriginalFilename();
-            amazonS3.putObject(bucketName, fileName, file.getInputStream(), metadata);
+            CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            deleteUploaded(uploads); // 일부만 올라간 파일 정리
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
 
-            return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName,location,fileName);
+        List<String> paths = new ArrayList<>();
+        for (CompletableFuture<String> upload : uploads) {
+            paths.add(amazonS3.getUrl(bucketName, upload.join()).toString());
+        }
+        return paths;
+    }
 
+    private String uploadObject(MultipartFile file, String rootType) {
+        String key = makeKey(rootType, file.getOriginalFilename());
+        try (InputStream inputStream = file.getInputStream()) {
+            streamToS3(inputStream, key, file.getContentType(), file.getSize(), Long.MAX_VALUE);
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            throw new UncheckedIOException(e);
         }
+        return key;
     }
 
-    public List<String> uploadImages(MultipartFile[] files, String rootType) {
+    // knownLength 가 part 하나 이하면 버퍼 없이 바로 putObject, 아니면 part 크기씩 읽어 multipart 업로드 (-1 : 길이 모름)
+    private void streamToS3(InputStream inputStream, String key, String contentType, long knownLength, long maxBytes) throws IOException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
 
-        List<String> paths = new ArrayList<>();
+        if (knownLength >= 0 && knownLength <= partSize) {
+            checkSize(knownLength, maxBytes);
+            metadata.setContentLength(knownLength);
+            amazonS3.putObject(bucketName, key, inputStream, metadata);
+            return;
+        }
 
-        for (MultipartFile file : files) {
+        // readNBytes(len) 는 실제로 읽은 만큼만 배열을 잡으므로 작은 스트림에 part 크기 버퍼를 할당하지 않는다
+        byte[] chunk = inputStream.readNBytes(partSize);
+        long total = chunk.length;
+        checkSize(total, maxBytes);
+        if (chunk.length < partSize) { // part 하나에 들어가면 일반 업로드
+            metadata.setContentLength(chunk.length);
+            amazonS3.putObject(bucketName, key, new ByteArrayInputStream(chunk), metadata);
+            return;
+        }
 
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentLength(file.getSize());
-            metadata.setContentType(file.getContentType());
+        String uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, key, metadata)).getUploadId();
+        try {
+            List<PartETag> partETags = new ArrayList<>();
+            int partNumber = 1;
+            while (chunk.length > 0) {
+                UploadPartRequest part = new UploadPartRequest()
+                        .withBucketName(bucketName)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber++)
+                        .withInputStream(new ByteArrayInputStream(chunk))
+                        .withPartSize(chunk.length);
+                partETags.add(amazonS3.uploadPart(part).getPartETag());
+
+                chunk = inputStream.readNBytes(partSize);
+                total += chunk.length;
+                checkSize(total, maxBytes);
+            }
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, key, uploadId, partETags));
+        } catch (IOException | RuntimeException e) {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+            throw e;
+        }
+    }
 
-            String uploadPath = makeFolder(rootType);
-            try {
-                String fileName = uploadPath + "/" + UUID.randomUUID() + "_" + file.getOriginalFilename();
-                amazonS3.putObject(bucketName, fileName, file.getInputStream(), metadata);
-                paths.add(String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName,location,fileName));
+    private void checkSize(long size, long maxBytes) {
+        if (size > maxBytes) {
+            throw new BaseException(BaseResponseStatus.FILE_TOO_LARGE);
+        }
+    }
+
+    // getUrl 로 만든 URL 에서 object key 복원 (virtual-host / path-style 모두)
+    public String toKey(String url) {
+        String prefix = amazonS3.getUrl(bucketName, "").getPath();
+        return URI.create(url).getPath().substring(prefix.length());
+    }
 
-            } catch (IOException e) {
-                throw new RuntimeException(e);
+    private void deleteUploaded(List<CompletableFuture<String>> uploads) {
+        for (CompletableFuture<String> upload : uploads) {
+            if (upload.isDone() && !upload.isCompletedExceptionally()) {
+                amazonS3.deleteObject(bucketName, upload.join());
             }
         }
-        return paths;
     }
-}
\ No newline at end of file
+}
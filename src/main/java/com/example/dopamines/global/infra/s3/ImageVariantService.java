@@ -0,0 +1,163 @@
+package com.example.dopamines.global.infra.s3;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 업로드된 원본 이미지로 목록용 썸네일(JPEG, 가능하면 WebP)을 만들어 원본 옆에 저장한다.
+ * 요청 스레드가 아닌 imageVariantExecutor 에서 원본을 S3 에서 다시 읽어 처리한다.
+ * WebP 는 ImageIO 에 webp writer 가 등록된 경우(webp-imageio 등)에만 생성한다.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+    private static final String THUMBNAIL_SUFFIX = "_thumb";
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    @Value("${cloud.aws.s3.thumbnail.width:320}")
+    private int thumbnailWidth;
+
+    // 이보다 픽셀 수가 많은 이미지는 디코딩하지 않는다 (작은 파일로 거대한 이미지를 선언해 메모리를 고갈시키는 경우 방지)
+    @Value("${cloud.aws.s3.thumbnail.max-pixels:50000000}")
+    private long maxPixels;
+
+    private final AmazonS3 amazonS3;
+    private final CloudFileUploadService cloudFileUploadService;
+    private final Executor imageVariantExecutor;
+
+    public ImageVariantService(AmazonS3 amazonS3, CloudFileUploadService cloudFileUploadService,
+                               @Qualifier("imageVariantExecutor") Executor imageVariantExecutor) {
+        this.amazonS3 = amazonS3;
+        this.cloudFileUploadService = cloudFileUploadService;
+        this.imageVariantExecutor = imageVariantExecutor;
+    }
+
+    // 대기열이 가득 차면 만들지 않는다 (클라이언트는 원본 이미지를 사용)
+    public CompletableFuture<ImageVariants> generate(String originalUrl) {
+        try {
+            return CompletableFuture.supplyAsync(() -> createVariants(originalUrl), imageVariantExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("[IMAGE][VARIANT] queue full, skip => {}", originalUrl);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private ImageVariants createVariants(String originalUrl) {
+        String key = cloudFileUploadService.toKey(originalUrl);
+
+        BufferedImage original;
+        try (S3Object object = amazonS3.getObject(bucketName, key); InputStream inputStream = object.getObjectContent()) {
+            original = read(inputStream, key);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (original == null) { // ImageIO 가 읽을 수 없는 형식
+            return null;
+        }
+
+        BufferedImage thumbnail = resize(original);
+        String baseKey = stripExtension(key) + THUMBNAIL_SUFFIX;
+
+        String thumbnailUrl = put(thumbnail, "jpg", "image/jpeg", baseKey + ".jpg");
+        String webpUrl = null;
+        if (ImageIO.getImageWritersByFormatName("webp").hasNext()) {
+            webpUrl = put(thumbnail, "webp", "image/webp", baseKey + ".webp");
+        }
+        return new ImageVariants(thumbnailUrl, webpUrl);
+    }
+
+    // 헤더의 크기만 먼저 읽어 너무 큰 이미지는 건너뛰고, 썸네일 크기에 가깝게 줄여서(subsampling) 디코딩
+    private BufferedImage read(InputStream inputStream, String key) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = imageInputStream == null ? null : ImageIO.getImageReaders(imageInputStream);
+            if (readers == null || !readers.hasNext()) { // ImageIO 가 읽을 수 없는 형식
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("[IMAGE][VARIANT] too large ({} x {}), skip => {}", width, height, key);
+                    return null;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, width / thumbnailWidth); // 줄인 뒤에도 가로가 thumbnailWidth 이상이 되도록
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 가로 thumbnailWidth 기준으로 비율 유지 (원본이 더 작으면 그대로), JPEG 저장을 위해 RGB 로 변환
+    private BufferedImage resize(BufferedImage original) {
+        int width = Math.min(thumbnailWidth, original.getWidth());
+        int height = Math.max(1, (int) Math.round((double) original.getHeight() * width / original.getWidth()));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(original, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private String put(BufferedImage image, String format, String contentType, String key) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, format, outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(outputStream.size());
+        metadata.setContentType(contentType);
+        amazonS3.putObject(bucketName, key, new ByteArrayInputStream(outputStream.toByteArray()), metadata);
+
+        return amazonS3.getUrl(bucketName, key).toString();
+    }
+
+    private String stripExtension(String key) {
+        int dot = key.lastIndexOf('.');
+        return dot > key.lastIndexOf('/') ? key.substring(0, dot) : key;
+    }
+
+    public record ImageVariants(String thumbnail, String webp) {
+    }
+}
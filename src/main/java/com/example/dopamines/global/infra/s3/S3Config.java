@@ -3,10 +3,15 @@ package com.example.dopamines.global.infra.s3;
 import org.springframework.context.annotation.Configuration;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.StringUtils;
+
+import java.util.concurrent.ThreadPoolExecutor;
 
 
 @Configuration
@@ -17,16 +22,52 @@ public class S3Config {
     private String secretKey;
     @Value("${cloud.aws.region.static}")
     private String region;
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    // 여러 장 업로드 시 파일별로 병렬 업로드 (가득 차면 요청 스레드가 직접 업로드)
+    @Bean
+    public ThreadPoolTaskExecutor s3UploadExecutor(@Value("${cloud.aws.s3.upload.threads:8}") Integer threads,
+                                                   @Value("${cloud.aws.s3.upload.queue-capacity:100}") Integer queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("s3-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 썸네일 생성 (CPU 작업이라 업로드 풀과 분리, 가득 차면 생성하지 않음)
+    @Bean
+    public ThreadPoolTaskExecutor imageVariantExecutor(@Value("${cloud.aws.s3.thumbnail.threads:2}") Integer threads,
+                                                       @Value("${cloud.aws.s3.thumbnail.queue-capacity:500}") Integer queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.initialize();
+        return executor;
+    }
 
     @Bean
     public AmazonS3Client amazonS3Client() {
         BasicAWSCredentials credentials =
                 new BasicAWSCredentials(accessKey,secretKey);
-        return (AmazonS3Client) AmazonS3ClientBuilder
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder
                 .standard()
-                .withRegion(region)
-                .withCredentials(new AWSStaticCredentialsProvider(credentials))
-                .build();
+                .withCredentials(new AWSStaticCredentialsProvider(credentials));
+
+        // MinIO 등 S3 호환 저장소 사용 시 (로컬 테스트)
+        if (StringUtils.hasText(endpoint)) {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true);
+        } else {
+            builder.withRegion(region);
+        }
+        return (AmazonS3Client) builder.build();
     }
 }
 
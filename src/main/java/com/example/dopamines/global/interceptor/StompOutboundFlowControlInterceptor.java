@@ -0,0 +1,162 @@
+package com.example.dopamines.global.interceptor;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * clientOutboundChannel 에서 세션별로 아직 전송되지 않은 MESSAGE frame 수를 제한한다.
+ * CONNECTED/RECEIPT/ERROR/heartbeat 등 제어 frame 은 세지도 버리지도 않는다.
+ * drop-oldest : 밀린 frame 이 max-pending 을 넘으면 큐에서 먼저 꺼내지는(가장 오래된) frame 부터 버린다
+ * disconnect  : 밀린 frame 이 max-pending 을 넘는 순간 느린 세션을 끊는다
+ * 전송 스레드가 넘긴 뒤 소켓 송신 버퍼에 밀리는 frame 은 StompBrokerConfiguration 의 세션 데코레이터가 같은 정책으로 처리한다.
+ */
+@Slf4j
+@Component
+public class StompOutboundFlowControlInterceptor implements ExecutorChannelInterceptor {
+    private static final String DISCONNECT = "disconnect";
+
+    @Value("${chat.stomp.session.max-pending:200}")
+    private Integer maxPending;
+
+    @Value("${chat.stomp.session.overflow-policy:drop-oldest}")
+    private String overflowPolicy;
+
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+    private final LongAdder droppedFrames = new LongAdder();
+    private final LongAdder disconnectedSessions = new LongAdder();
+
+    public boolean isDropPolicy() {
+        return !DISCONNECT.equals(overflowPolicy);
+    }
+
+    public void register(WebSocketSession session) {
+        sessions.put(session.getId(), new SessionState(session));
+    }
+
+    public void unregister(String sessionId) {
+        SessionState state = sessions.remove(sessionId);
+        if (state != null && state.dropped.sum() > 0) {
+            log.info("[STOMP][OUTBOUND] session : {} closed, dropped frames : {}", sessionId, state.dropped.sum());
+        }
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SessionState state = findState(message);
+        if (state == null) {
+            return message;
+        }
+
+        int pending = state.pending.incrementAndGet();
+        if (pending > maxPending && DISCONNECT.equals(overflowPolicy)) {
+            state.pending.decrementAndGet();
+            droppedFrames.increment();
+            state.dropped.increment();
+            disconnect(state);
+            return null;
+        }
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        // executor 큐가 가득 차 거절된 경우 등 실제로 큐에 들어가지 못한 frame
+        if (!sent || ex != null) {
+            release(message);
+        }
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        SessionState state = findState(message);
+        if (state == null || DISCONNECT.equals(overflowPolicy)) {
+            return message;
+        }
+
+        // 큐에서 먼저 꺼내진 frame 이 가장 오래된 frame -> 밀린 양이 한도를 넘는 동안은 버린다
+        if (state.pending.get() > maxPending) {
+            state.pending.decrementAndGet();
+            droppedFrames.increment();
+            state.dropped.increment();
+            return null;
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        release(message);
+    }
+
+    public long getPendingFrames() {
+        return sessions.values().stream().mapToLong((state) -> state.pending.get()).sum();
+    }
+
+    public long getDroppedFrames() {
+        return droppedFrames.sum();
+    }
+
+    public long getDisconnectedSessions() {
+        return disconnectedSessions.sum();
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    private void release(Message<?> message) {
+        SessionState state = findState(message);
+        if (state != null) {
+            state.pending.decrementAndGet();
+        }
+    }
+
+    // 채팅 MESSAGE frame 만 대상
+    private SessionState findState(Message<?> message) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return null;
+        }
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId == null) {
+            return null;
+        }
+        return sessions.get(sessionId);
+    }
+
+    private void disconnect(SessionState state) {
+        if (!state.session.isOpen()) {
+            return;
+        }
+        try {
+            log.warn("[STOMP][OUTBOUND] slow consumer disconnected : {}", state.session.getId());
+            disconnectedSessions.increment();
+            state.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.warn("[STOMP][OUTBOUND] failed to close session : {}", state.session.getId(), e);
+        }
+    }
+
+    private static class SessionState {
+        private final WebSocketSession session;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final LongAdder dropped = new LongAdder();
+
+        private SessionState(WebSocketSession session) {
+            this.session = session;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.dopamines.global.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * 색인 검색 결과(idx)를 DB 에서 읽어 한 페이지로 만든다.
+ * 다른 노드에서 삭제돼 DB 에 없는 게시글은 색인에서 빼고, 페이지가 size 만큼 찰 때까지 다음 순위를 이어서 읽는다.
+ */
+public record IndexSearchPage<T>(List<T> items, String nextCursor) {
+
+    // search : (after, limit) -> after 다음 순위부터 limit 개
+    public static <T> IndexSearchPage<T> load(BiFunction<NgramInvertedIndex.Hit, Integer, List<NgramInvertedIndex.Hit>> search,
+                                              Function<List<Long>, List<T>> loader, Function<T, Long> idxOf,
+                                              LongConsumer evict, NgramInvertedIndex.Hit after, int size) {
+        List<T> items = new ArrayList<>();
+        boolean hasNext = false;
+        while (items.size() < size) {
+            int need = size - items.size();
+            List<NgramInvertedIndex.Hit> hits = search.apply(after, need + 1);
+            hasNext = hits.size() > need;
+            if (hasNext) {
+                hits = hits.subList(0, need);
+            }
+            if (hits.isEmpty()) {
+                break;
+            }
+
+            Map<Long, T> found = loader.apply(hits.stream().map(NgramInvertedIndex.Hit::id).toList()).stream()
+                    .collect(Collectors.toMap(idxOf, Function.identity()));
+            for (NgramInvertedIndex.Hit hit : hits) {
+                T item = found.get(hit.id());
+                if (item == null) {
+                    evict.accept(hit.id());
+                } else {
+                    items.add(item);
+                }
+            }
+            after = hits.get(hits.size() - 1);
+            if (!hasNext) {
+                break;
+            }
+        }
+        return new IndexSearchPage<>(items, hasNext ? SearchCursor.of(after) : null);
+    }
+}
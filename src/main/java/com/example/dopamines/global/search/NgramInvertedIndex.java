@@ -0,0 +1,227 @@
+package com.example.dopamines.global.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+
+/**
+ * 제목/본문을 글자 n-gram 으로 쪼개 메모리에 들고 있는 역색인.
+ * LIKE '%kw%' 와 같은 부분 문자열 검색을 위해 단어가 아닌 1 ~ maxGram 글자 단위로 색인하고,
+ * 검색어의 n-gram 을 모두 포함한 문서만 후보로 삼아 TF-IDF(제목 가중치) 점수 순으로 id 를 돌려준다.
+ */
+public class NgramInvertedIndex {
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CONTENT_WEIGHT = 1;
+    private static final Comparator<Hit> WORST_FIRST =
+            Comparator.comparingDouble(Hit::score).thenComparingLong(Hit::id);
+
+    private final int maxGram;
+    // term -> (문서 id -> 가중치 반영된 빈도)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // 문서 id -> term 빈도 (갱신/삭제 시 기존 posting 을 지우기 위해 보관)
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public NgramInvertedIndex(int maxGram) {
+        this.maxGram = maxGram;
+    }
+
+    public void put(Long id, String title, String content) {
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, title, TITLE_WEIGHT);
+        addTerms(terms, content, CONTENT_WEIGHT);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            documents.put(id, terms);
+            terms.forEach((term, freq) -> postings.computeIfAbsent(term, (key) -> new HashMap<>()).put(id, freq));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // filter 를 통과한 문서 중 after 다음 순위부터 점수 상위 limit 개 (동점이면 최신 id 우선)
+    public List<Hit> search(String query, LongPredicate filter, Hit after, int limit) {
+        Set<String> queryTerms = queryTerms(query);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> lists = new ArrayList<>();
+            for (String term : queryTerms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    return List.of();
+                }
+                lists.add(posting);
+            }
+            // 가장 짧은 posting 만 순회하고 나머지는 존재 여부만 확인
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            int total = documents.size();
+            // 이전 페이지 이후 색인이 바뀌면 점수(IDF)도 바뀌므로 after 를 지금 점수로 다시 매겨 비교
+            // (after 문서가 삭제되었거나 더 이상 맞지 않으면 커서에 담긴 점수를 그대로 사용)
+            if (after != null) {
+                Double current = score(lists, total, after.id());
+                if (current != null) {
+                    after = new Hit(after.id(), current);
+                }
+            }
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(WORST_FIRST);
+            for (Long id : lists.get(0).keySet()) {
+                if (filter != null && !filter.test(id)) {
+                    continue;
+                }
+                Double score = score(lists, total, id);
+                if (score == null) {
+                    continue;
+                }
+                Hit hit = new Hit(id, score);
+                if (after != null && WORST_FIRST.compare(hit, after) >= 0) { // 이전 페이지에서 이미 내려준 순위
+                    continue;
+                }
+                top.offer(hit);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<Hit> ranked = new ArrayList<>(top);
+            ranked.sort(WORST_FIRST.reversed());
+            return ranked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어의 n-gram 을 모두 포함한 문서 id 전체 (facet 집계용)
+    public void forEachMatch(String query, LongConsumer consumer) {
+        Set<String> queryTerms = queryTerms(query);
+        if (queryTerms.isEmpty()) {
+            return;
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> lists = new ArrayList<>();
+            for (String term : queryTerms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    return;
+                }
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            candidates:
+            for (Long id : lists.get(0).keySet()) {
+                for (int i = 1; i < lists.size(); i++) {
+                    if (!lists.get(i).containsKey(id)) {
+                        continue candidates;
+                    }
+                }
+                consumer.accept(id);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어의 posting 에 모두 들어 있으면 TF-IDF 점수, 하나라도 없으면 null
+    private Double score(List<Map<Long, Integer>> lists, int total, Long id) {
+        double score = 0;
+        for (Map<Long, Integer> posting : lists) {
+            Integer freq = posting.get(id);
+            if (freq == null) {
+                return null;
+            }
+            score += freq * Math.log(1 + (double) total / posting.size());
+        }
+        return score;
+    }
+
+    private void removeInternal(Long id) {
+        Map<String, Integer> old = documents.remove(id);
+        if (old == null) {
+            return;
+        }
+        for (String term : old.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private void addTerms(Map<String, Integer> terms, String text, int weight) {
+        for (String word : words(text)) {
+            for (int n = 1; n <= maxGram; n++) {
+                for (int i = 0; i + n <= word.length(); i++) {
+                    terms.merge(word.substring(i, i + n), weight, Integer::sum);
+                }
+            }
+        }
+    }
+
+    // 검색어는 단어마다 가능한 가장 긴 n-gram 만 사용
+    private Set<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(query)) {
+            int n = Math.min(word.length(), maxGram);
+            for (int i = 0; i + n <= word.length(); i++) {
+                terms.add(word.substring(i, i + n));
+            }
+        }
+        return terms;
+    }
+
+    static List<String> words(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> words = new ArrayList<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    public record Hit(Long id, double score) {
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.dopamines.global.search;
+
+// 게시판 검색 색인 적재용 projection (색인에 쓰는 컬럼만)
+public record PostSearchDocument(Long idx, String title, String content) {
+}
@@ -0,0 +1,180 @@
+package com.example.dopamines.global.search;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시판 검색용 메모리 역색인의 공통 부분 (자유/공개 게시판).
+ * 한글은 띄어쓰기 단위와 형태소 경계가 달라 단어 색인으로는 부분 일치가 안 되므로 1 ~ 3 글자 n-gram 으로 색인한다.
+ * 기동 시 전체 게시글을 idx 순으로 나눠 읽고, 이후에는 등록/수정/삭제 커밋 시점에 바로 반영한다.
+ * 다른 노드의 변경은 refresh() 로 최근 idx 구간(늦게 커밋된 IDENTITY 행 포함)을 다시 읽고,
+ * 그보다 오래된 게시글의 수정/삭제는 reconcile() 로 전체를 다시 읽어 맞춘다.
+ */
+@Slf4j
+public abstract class PostSearchIndex<T> {
+    private static final int MAX_GRAM = 3;
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final NgramInvertedIndex index = new NgramInvertedIndex(MAX_GRAM);
+    // 색인된 게시글의 제목/본문 해시 (다시 읽을 때 바뀐 글만 다시 색인하고, idx 구간으로 삭제된 글을 찾는다)
+    private final NavigableMap<Long, Integer> textHashes = new TreeMap<>();
+    // 이 노드에서 커밋 후 반영한 변경의 순번 (rescan 이 DB 를 읽은 뒤에 바뀐 게시글을 읽어 둔 값으로 덮어쓰지 않기 위함)
+    private long changeSeq = 0L;
+    private final Map<Long, Long> changedAt = new HashMap<>();
+    // rescan 끼리만 직렬화 (커밋 후 반영은 청크를 반영하는 동안만 기다린다)
+    private final Object scanLock = new Object();
+    private volatile long lastLoadedIdx = 0L;
+    private volatile boolean ready = false;
+
+    // refresh 때마다 다시 읽는 최근 idx 구간 크기
+    @Value("${search.post.rescan-window:1000}")
+    private long rescanWindow;
+
+    // idx 가 lastIdx 보다 큰 게시글을 idx 오름차순으로 size 개
+    protected abstract List<PostSearchDocument> loadAfter(long lastIdx, int size);
+
+    protected abstract Long idxOf(T post);
+
+    protected abstract String titleOf(T post);
+
+    protected abstract String contentOf(T post);
+
+    public void build() {
+        long start = System.currentTimeMillis();
+        rescan(0L);
+        ready = true;
+        log.info("[{}][SEARCH INDEX] indexed {} posts in {} ms", getClass().getSimpleName(), index.size(), System.currentTimeMillis() - start);
+    }
+
+    public void refresh() {
+        if (ready) {
+            rescan(Math.max(0L, lastLoadedIdx - rescanWindow));
+        }
+    }
+
+    public void reconcile() {
+        if (ready) {
+            rescan(0L);
+        }
+    }
+
+    // 색인이 준비되기 전에는 기존 DB 검색을 사용
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void index(T post) {
+        Long idx = idxOf(post);
+        String title = titleOf(post);
+        String content = contentOf(post);
+        afterCommit(() -> putChange(idx, title, content));
+    }
+
+    public void remove(Long idx) {
+        afterCommit(() -> removeNow(idx));
+    }
+
+    // after(이전 페이지 마지막 결과) 다음부터 점수 순 상위 limit 개
+    public List<NgramInvertedIndex.Hit> search(String keyword, NgramInvertedIndex.Hit after, int limit) {
+        return index.search(keyword, null, after, limit);
+    }
+
+    // 롤백된 변경이 색인에 남지 않도록 트랜잭션 안이면 커밋 후 반영
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private synchronized void putChange(Long idx, String title, String content) {
+        touch(idx);
+        put(idx, title, content);
+    }
+
+    private synchronized void removeNow(Long idx) {
+        touch(idx);
+        forget(idx);
+    }
+
+    private void put(Long idx, String title, String content) {
+        int textHash = Objects.hash(title, content);
+        Integer oldHash = textHashes.put(idx, textHash);
+        if (oldHash == null || oldHash != textHash) {
+            index.put(idx, title, content);
+        }
+    }
+
+    private void forget(Long idx) {
+        index.remove(idx);
+        textHashes.remove(idx);
+    }
+
+    // fromIdx 이후 게시글을 다시 읽어 반영하고, 읽은 구간 안에서 DB 에 없는 게시글은 색인에서 뺀다
+    // DB 조회는 락 밖에서 하고, 읽은 청크를 반영할 때만 락을 잡는다
+    private void rescan(long fromIdx) {
+        synchronized (scanLock) {
+            long cursor = fromIdx;
+            List<PostSearchDocument> chunk;
+            do {
+                long readSeq = currentChangeSeq();
+                chunk = loadAfter(cursor, LOAD_CHUNK_SIZE);
+                long upper = chunk.size() < LOAD_CHUNK_SIZE ? Long.MAX_VALUE : chunk.get(chunk.size() - 1).idx();
+                applyChunk(chunk, cursor, upper, readSeq);
+
+                if (!chunk.isEmpty()) {
+                    cursor = chunk.get(chunk.size() - 1).idx();
+                    lastLoadedIdx = Math.max(lastLoadedIdx, cursor);
+                }
+            } while (chunk.size() == LOAD_CHUNK_SIZE);
+        }
+    }
+
+    // (lower, upper] 구간을 읽은 결과로 맞춘다. 읽기 시작한 뒤 이 노드에서 바뀐 게시글은 이미 최신이므로 건너뛴다
+    private synchronized void applyChunk(List<PostSearchDocument> chunk, long lower, long upper, long readSeq) {
+        Set<Long> found = new HashSet<>();
+        for (PostSearchDocument doc : chunk) {
+            found.add(doc.idx());
+            if (!changedSince(doc.idx(), readSeq)) {
+                put(doc.idx(), doc.title(), doc.content());
+            }
+        }
+
+        List<Long> deleted = textHashes.subMap(lower, false, upper, true).keySet().stream()
+                .filter((idx) -> !found.contains(idx) && !changedSince(idx, readSeq))
+                .toList();
+        deleted.forEach(this::forget);
+
+        // 이후 청크는 더 늦은 시점에 읽으므로 이번 읽기 이전의 변경 기록은 필요 없다
+        changedAt.values().removeIf((seq) -> seq <= readSeq);
+    }
+
+    private synchronized long currentChangeSeq() {
+        return changeSeq;
+    }
+
+    private void touch(Long idx) {
+        changedAt.put(idx, ++changeSeq);
+    }
+
+    private boolean changedSince(Long idx, long readSeq) {
+        Long seq = changedAt.get(idx);
+        return seq != null && seq > readSeq;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.dopamines.global.search;
+
+import com.example.dopamines.global.common.BaseException;
+import com.example.dopamines.global.common.BaseResponseStatus;
+import com.example.dopamines.global.common.CursorToken;
+
+/**
+ * 검색 결과 페이지 커서. 색인 검색은 (점수, idx) 2개, 색인 준비 전 DB 검색은 idx 1개로 값 개수가 다르다.
+ * 페이지를 넘기는 사이 색인이 준비되거나 다른 노드로 요청이 가도 커서 모양으로 어느 검색의 다음 페이지인지 구분한다.
+ */
+public record SearchCursor(Long lastIdx, NgramInvertedIndex.Hit after) {
+    private static final SearchCursor FIRST = new SearchCursor(null, null);
+
+    public static SearchCursor decode(String token) {
+        long[] values = CursorToken.decode(token);
+        if (values == null) {
+            return FIRST;
+        }
+        return switch (values.length) {
+            case 1 -> new SearchCursor(values[0], null);
+            case 2 -> new SearchCursor(null, new NgramInvertedIndex.Hit(values[1], Double.longBitsToDouble(values[0])));
+            default -> throw new BaseException(BaseResponseStatus.INVALID_CURSOR);
+        };
+    }
+
+    public static String of(long lastIdx) {
+        return CursorToken.encode(lastIdx);
+    }
+
+    public static String of(NgramInvertedIndex.Hit hit) {
+        return CursorToken.encode(Double.doubleToLongBits(hit.score()), hit.id());
+    }
+
+    public boolean isFirst() {
+        return lastIdx == null && after == null;
+    }
+
+    // DB 검색으로 시작한 목록은 색인이 준비된 뒤에도 DB 검색으로 이어서 조회한다
+    public boolean isDbCursor() {
+        return lastIdx != null;
+    }
+}
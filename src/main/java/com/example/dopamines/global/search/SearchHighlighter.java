@@ -0,0 +1,107 @@
+package com.example.dopamines.global.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 결과 제목/본문에서 검색어 부분을 <em> 으로 감싼다.
+ * 게시글 내용은 사용자 입력이므로 HTML 이스케이프 후 태그를 붙인다.
+ */
+public final class SearchHighlighter {
+    private static final String OPEN_TAG = "<em>";
+    private static final String CLOSE_TAG = "</em>";
+    private static final String ELLIPSIS = "...";
+
+    private SearchHighlighter() {
+    }
+
+    public static String highlight(String text, String query) {
+        if (text == null) {
+            return null;
+        }
+        return render(text, 0, text.length(), matches(text, query));
+    }
+
+    // 본문은 첫 일치 위치 주변 length 글자만 잘라서 강조
+    public static String snippet(String text, String query, int length) {
+        if (text == null) {
+            return null;
+        }
+        List<int[]> matches = matches(text, query);
+        int from = matches.isEmpty() ? 0 : Math.max(0, matches.get(0)[0] - length / 4);
+        int to = Math.min(text.length(), from + length);
+
+        StringBuilder sb = new StringBuilder();
+        if (from > 0) {
+            sb.append(ELLIPSIS);
+        }
+        sb.append(render(text, from, to, matches));
+        if (to < text.length()) {
+            sb.append(ELLIPSIS);
+        }
+        return sb.toString();
+    }
+
+    // 검색어 단어들이 나타나는 구간 [start, end) 을 시작 위치 순으로 병합해서 반환
+    private static List<int[]> matches(String text, String query) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        if (lower.length() != text.length()) { // 소문자 변환으로 길이가 바뀌는 문자가 있으면 원문 그대로 비교
+            lower = text;
+        }
+
+        boolean[] marked = new boolean[text.length()];
+        for (String word : NgramInvertedIndex.words(query)) {
+            for (int i = lower.indexOf(word); i >= 0; i = lower.indexOf(word, i + 1)) {
+                for (int j = i; j < i + word.length(); j++) {
+                    marked[j] = true;
+                }
+            }
+        }
+
+        List<int[]> matches = new ArrayList<>();
+        for (int i = 0; i < marked.length; i++) {
+            if (marked[i] && (i == 0 || !marked[i - 1])) {
+                int end = i;
+                while (end < marked.length && marked[end]) {
+                    end++;
+                }
+                matches.add(new int[]{i, end});
+            }
+        }
+        return matches;
+    }
+
+    private static String render(String text, int from, int to, List<int[]> matches) {
+        StringBuilder sb = new StringBuilder();
+        int pos = from;
+        for (int[] match : matches) {
+            int start = Math.max(match[0], from);
+            int end = Math.min(match[1], to);
+            if (start >= end) {
+                continue;
+            }
+            escape(sb, text, pos, start);
+            sb.append(OPEN_TAG);
+            escape(sb, text, start, end);
+            sb.append(CLOSE_TAG);
+            pos = end;
+        }
+        escape(sb, text, pos, to);
+        return sb.toString();
+    }
+
+    private static void escape(StringBuilder sb, String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> sb.append("&lt;");
+                case '>' -> sb.append("&gt;");
+                case '&' -> sb.append("&amp;");
+                case '"' -> sb.append("&quot;");
+                case '\'' -> sb.append("&#39;");
+                default -> sb.append(c);
+            }
+        }
+    }
+}
@@ -4,13 +4,14 @@ import com.example.dopamines.domain.user.model.entity.User;
 import com.example.dopamines.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailService implements UserDetailsService {
+public class CustomUserDetailService implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
 
     // 그림에서 5번
@@ -20,4 +21,14 @@ public class CustomUserDetailService implements UserDetailsService {
 
         return new CustomUserDetails(user);
     }
+
+    // 로그인 성공 후 PasswordEncoder.upgradeEncoding 이 true 일 때 호출 (새 cost 로 재해싱된 비밀번호 저장)
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername()).orElseThrow();
+        user.updatePassword(newPassword);
+        userRepository.save(user);
+
+        return new CustomUserDetails(user);
+    }
 }
@@ -0,0 +1,20 @@
+package com.example.dopamines.global.security;
+
+import java.util.Date;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 서명 검증이 끝난 토큰의 claim
+@Getter
+@AllArgsConstructor
+public class JwtClaims {
+    private final Long idx;
+    private final String email;
+    private final String role;
+    private final String nickname;
+    private final Date expiration;
+
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+}
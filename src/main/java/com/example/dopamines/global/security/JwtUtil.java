@@ -1,30 +1,44 @@
 package com.example.dopamines.global.security;
 
-import com.example.dopamines.domain.user.repository.UserRepository;
+import com.example.dopamines.domain.user.model.entity.User;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.Jwts.SIG;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtUtil {
 
     private SecretKey secretKey;
-    private CustomUserDetailService customUserDetailService;
+    private JwtParser jwtParser;
+    // 토큰 hash -> 검증된 claim. 같은 토큰으로 다시 요청하면 서명 검증을 건너뛴다
+    private Cache<String, JwtClaims> claimsCache;
 
-    public JwtUtil(@Value("${spring.jwt.secret}") String secretKey, UserRepository userRepository) {
+    public JwtUtil(@Value("${spring.jwt.secret}") String secretKey,
+                   @Value("${spring.jwt.cache.max-size:10000}") Long cacheMaxSize,
+                   @Value("${spring.jwt.cache.ttl-seconds:300}") Long cacheTtlSeconds) {
         this.secretKey = new SecretKeySpec(
                 secretKey.getBytes(StandardCharsets.UTF_8),
                 SIG.HS256.key().build().getAlgorithm()
         );
-        this.customUserDetailService = new CustomUserDetailService(userRepository);
+        this.jwtParser = Jwts.parser().verifyWith(this.secretKey).build();
+        this.claimsCache = CacheBuilder.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
+                .build();
     }
 
     public String createToken(Long idx, String email, String role,String nickname) {
@@ -49,24 +63,60 @@ public class JwtUtil {
                 .compact();
     }
 
+    // 서명 검증과 파싱을 한 번만 수행 (캐시에 있으면 검증 생략). 잘못된 토큰/만료된 토큰은 JwtException
+    public JwtClaims parseClaims(String token) {
+        String key = Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+        JwtClaims claims = claimsCache.getIfPresent(key);
+
+        if (claims == null) {
+            Claims payload = jwtParser.parseSignedClaims(token).getPayload();
+            claims = new JwtClaims(
+                    payload.get("idx", Long.class),
+                    payload.get("email", String.class),
+                    payload.get("role", String.class),
+                    payload.get("nickname", String.class),
+                    payload.getExpiration()
+            );
+            claimsCache.put(key, claims);
+        }
+
+        // 캐시에 남아 있는 동안 만료된 토큰
+        if (claims.isExpired()) {
+            claimsCache.invalidate(key);
+            throw new ExpiredJwtException(null, null, "JWT expired at " + claims.getExpiration());
+        }
+        return claims;
+    }
+
     public Long getIdx(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("idx", Long.class);
+        return parseClaims(token).getIdx();
     }
 
     public String getUsername(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("email", String.class);
+        return parseClaims(token).getEmail();
     }
 
     public String getRole(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
+        return parseClaims(token).getRole();
     }
 
     public Boolean isExpired(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+        return parseClaims(token).isExpired();
     }
 
     public Authentication getAuthentication(String jwtToken) {
-        UserDetails userDetails = customUserDetailService.loadUserByUsername(getUsername(jwtToken));
-        return new UsernamePasswordAuthenticationToken(userDetails, userDetails.getPassword(), userDetails.getAuthorities());
+        return getAuthentication(parseClaims(jwtToken));
+    }
+
+    // 검증된 claim 만으로 principal 생성 (DB 조회 없음)
+    public Authentication getAuthentication(JwtClaims claims) {
+        User user = User.builder()
+                .idx(claims.getIdx())
+                .email(claims.getEmail())
+                .role(claims.getRole())
+                .nickname(claims.getNickname())
+                .build();
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
 }
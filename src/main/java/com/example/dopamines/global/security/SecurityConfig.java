@@ -6,13 +6,14 @@ import com.example.dopamines.global.auth.OAuth2AuthenticaitonSuccessHandler;
 import com.example.dopamines.global.security.filter.JwtFilter;
 import com.example.dopamines.global.security.filter.LoginFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -27,6 +28,7 @@ public class SecurityConfig {
     private final OAuth2Service oAuth2Service;
 
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
     private final AuthenticationConfiguration authenticationConfiguration;
 
     @Bean
@@ -77,7 +79,7 @@ public class SecurityConfig {
         );
 
 
-        http.addFilterBefore(new JwtFilter(jwtUtil), LoginFilter.class);
+        http.addFilterBefore(new JwtFilter(jwtUtil, tokenRevocationService), LoginFilter.class);
         http.addFilterAt(new LoginFilter(jwtUtil, authenticationManager(authenticationConfiguration)), UsernamePasswordAuthenticationFilter.class);
 
 
@@ -95,9 +97,12 @@ public class SecurityConfig {
     }
 
 
+    // 로그인/회원가입 해싱은 전용 스레드 풀에서 (대기열 초과 시 429)
     @Bean
-    BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    PasswordEncoder passwordEncoder(@Value("${spring.security.bcrypt.strength:10}") Integer strength,
+                                    @Value("${spring.security.bcrypt.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") Integer threads,
+                                    @Value("${spring.security.bcrypt.queue-capacity:64}") Integer queueCapacity) {
+        return new BoundedBCryptPasswordEncoder(strength, threads, queueCapacity);
     }
 
 }
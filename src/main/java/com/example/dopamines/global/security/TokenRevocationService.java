@@ -0,0 +1,68 @@
+package com.example.dopamines.global.security;
+
+import com.example.dopamines.domain.user.model.entity.User;
+import com.example.dopamines.domain.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 활동 정지(블랙리스트)된 회원 idx 를 메모리에 들고 있다가 JWT 요청마다 확인한다.
+ * 요청마다 회원을 조회하지 않고, 주기적으로 마지막 갱신 이후 변경된 회원만 읽어 반영한다 (다른 노드에서 정지한 회원 포함).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+    // 노드 간 시계 차이/트랜잭션 커밋 지연을 고려해 겹쳐서 읽는 구간
+    private static final long REFRESH_OVERLAP_SECONDS = 5;
+
+    private final UserRepository userRepository;
+
+    private final Set<Long> revokedUsers = ConcurrentHashMap.newKeySet();
+    private volatile LocalDateTime lastRefreshedAt;
+
+    @PostConstruct
+    public void init() {
+        lastRefreshedAt = LocalDateTime.now();
+        revokedUsers.addAll(userRepository.findBlackListIdx());
+        log.info("[AUTH][REVOCATION] loaded {} black list users", revokedUsers.size());
+    }
+
+    @Scheduled(fixedDelayString = "${spring.jwt.revocation.refresh-ms:5000}")
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        List<User> changed = userRepository.findAllByUpdatedAtAfter(lastRefreshedAt.minusSeconds(REFRESH_OVERLAP_SECONDS));
+        for (User user : changed) {
+            apply(user.getIdx(), user.isStatus());
+        }
+        lastRefreshedAt = now;
+    }
+
+    public boolean isRevoked(Long userIdx) {
+        return userIdx != null && revokedUsers.contains(userIdx);
+    }
+
+    // 이 노드에는 즉시 반영, 다른 노드는 다음 refresh 에서 반영
+    public void revoke(Long userIdx) {
+        revokedUsers.add(userIdx);
+    }
+
+    public void restore(Long userIdx) {
+        revokedUsers.remove(userIdx);
+    }
+
+    private void apply(Long userIdx, boolean active) {
+        if (active) {
+            restore(userIdx);
+        } else {
+            revoke(userIdx);
+        }
+    }
+}
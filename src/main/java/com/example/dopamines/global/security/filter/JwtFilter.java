@@ -1,8 +1,9 @@
 package com.example.dopamines.global.security.filter;
 
-import com.example.dopamines.domain.user.model.entity.User;
-import com.example.dopamines.global.security.CustomUserDetails;
+import com.example.dopamines.global.security.JwtClaims;
 import com.example.dopamines.global.security.JwtUtil;
+import com.example.dopamines.global.security.TokenRevocationService;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -10,7 +11,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -19,6 +19,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtFilter extends OncePerRequestFilter {
     
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -52,28 +53,24 @@ public class JwtFilter extends OncePerRequestFilter {
             String token = authorization.split(" ")[0];
 //            String token = authorization;
 
-            if(jwtUtil.isExpired(token)){
+            // 서명 검증 + 파싱은 한 번만
+            JwtClaims claims;
+            try {
+                claims = jwtUtil.parseClaims(token);
+            } catch (JwtException e) {
                 System.out.println("토큰 만료됨");
                 filterChain.doFilter(request,response);
+                return;
             }
 
+            // 활동 정지된 회원의 토큰 (DB 조회 없이 메모리에서 확인)
+            if(tokenRevocationService.isRevoked(claims.getIdx())){
+                filterChain.doFilter(request,response);
+                return;
+            }
 
-            //정상 토큰 확인
-            Long idx = jwtUtil.getIdx(token);
-            String username = jwtUtil.getUsername(token);
-            String role = jwtUtil.getRole(token);
-
-            //임시적인 멤버 객체 생성
-            User user = User.builder()
-                    .idx(idx)
-                    .email(username)
-                    .role(role)
-                    .build();
-
-            // 직접 CustomDetails 객체로 변환
-            CustomUserDetails customUserDetails = new CustomUserDetails(user);
-
-            Authentication authToken = new UsernamePasswordAuthenticationToken(customUserDetails,null,customUserDetails.getAuthorities());
+            // claim 으로 임시 멤버 객체를 만들어 CustomDetails 로 변환
+            Authentication authToken = jwtUtil.getAuthentication(claims);
             //ContextHolder 에 미리 심어줌으로서, LoginFilter가 로그인 된 사용자라고 판명
             SecurityContextHolder.getContext().setAuthentication(authToken);
         }
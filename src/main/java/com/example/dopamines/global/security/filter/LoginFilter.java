@@ -1,6 +1,8 @@
 package com.example.dopamines.global.security.filter;
 
 import com.example.dopamines.domain.user.model.request.UserLoginReq;
+import com.example.dopamines.global.common.BaseResponse;
+import com.example.dopamines.global.common.BaseResponseStatus;
 import com.example.dopamines.global.security.CustomUserDetails;
 import com.example.dopamines.global.security.JwtUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -13,17 +15,21 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
-import org.springframework.util.StreamUtils;
 
 @RequiredArgsConstructor
 public class LoginFilter extends UsernamePasswordAuthenticationFilter {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
 
@@ -32,10 +38,8 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
             throws AuthenticationException {
         UserLoginReq dto;
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
             ServletInputStream inputStream = request.getInputStream();
-            String messageBody = StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
-            dto = objectMapper.readValue(messageBody, UserLoginReq.class);
+            dto = OBJECT_MAPPER.readValue(inputStream, UserLoginReq.class);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -48,11 +52,28 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
                 new UsernamePasswordAuthenticationToken(username, password, null);
 
         // 그림에서 3번
-        return authenticationManager.authenticate(authToken);
+        try {
+            return authenticationManager.authenticate(authToken);
+        } catch (RejectedExecutionException e) {
+            // 해싱 대기열이 가득 찬 경우 -> 429 (null 반환 시 인증 진행 중으로 보고 필터 체인을 멈춘다)
+            writeTooManyRequests(response);
+            return null;
+        }
 
     }
 
 
+    private void writeTooManyRequests(HttpServletResponse response) {
+        try {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            OBJECT_MAPPER.writeValue(response.getOutputStream(), new BaseResponse<>(BaseResponseStatus.TOO_MANY_REQUESTS));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Override
     protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
                                             Authentication authResult) throws IOException, ServletException {
@@ -0,0 +1,99 @@
+package com.example.dopamines.domain.board.community.free.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class FreeLikeCounterTest {
+    private static final Long POST_IDX = 1L;
+    private static final int THREADS = 500;
+
+    private final AtomicLong flushedTotal = new AtomicLong();
+    private FreeLikeCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+        // batch 로 넘어간 증감분을 DB 대신 합산
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer((invocation) -> {
+            List<Object[]> batch = invocation.getArgument(1);
+            for (Object[] row : batch) {
+                if (POST_IDX.equals(row[1])) {
+                    flushedTotal.addAndGet((Long) row[0]);
+                }
+            }
+            return new int[batch.size()];
+        });
+        doAnswer((invocation) -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        counter = new FreeLikeCounter(jdbcTemplate, transactionTemplate);
+    }
+
+    @Test
+    void 동시에_500번_좋아요해도_flush_된_값과_남은_값의_합은_500() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        AtomicInteger errors = new AtomicInteger();
+
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    counter.increase(FreeLikeCounter.Target.POST, POST_IDX);
+                } catch (Exception e) {
+                    errors.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // 좋아요가 들어오는 동안에도 스케줄러처럼 계속 flush
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                counter.flush();
+            }
+        });
+        flusher.start();
+        start.countDown();
+
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        running.set(false);
+        flusher.join();
+        executor.shutdown();
+
+        assertThat(errors.get()).isZero();
+        assertThat(flushedTotal.get() + counter.pending(FreeLikeCounter.Target.POST, POST_IDX)).isEqualTo(THREADS);
+
+        counter.flush();
+        assertThat(flushedTotal.get()).isEqualTo(THREADS);
+        assertThat(counter.pending(FreeLikeCounter.Target.POST, POST_IDX)).isZero();
+    }
+}
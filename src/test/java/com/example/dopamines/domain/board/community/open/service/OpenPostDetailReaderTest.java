@@ -0,0 +1,126 @@
+package com.example.dopamines.domain.board.community.open.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.dopamines.domain.board.community.open.model.entity.OpenComment;
+import com.example.dopamines.domain.board.community.open.model.entity.OpenPost;
+import com.example.dopamines.domain.board.community.open.model.entity.OpenRecomment;
+import com.example.dopamines.domain.board.community.open.model.response.OpenCommentReadRes;
+import com.example.dopamines.domain.board.community.open.model.response.OpenPostReadRes;
+import com.example.dopamines.domain.board.community.open.model.response.OpenRecommentPageRes;
+import com.example.dopamines.domain.board.community.open.model.response.OpenRecommentReadRes;
+import com.example.dopamines.domain.user.model.entity.User;
+import com.example.dopamines.global.config.JpaConfig;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+// 게시글 상세 조회가 댓글/대댓글 수와 관계없이 쿼리 4번으로 끝나는지 확인 (H2, MariaDB 호환 모드)
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:open-post-detail;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OpenPostDetailReader.class, JpaConfig.class})
+class OpenPostDetailReaderTest {
+    private static final int COMMENTS = 3;
+    private static final int RECOMMENTS_PER_COMMENT = 7; // 미리보기 5개보다 많게
+
+    @Autowired
+    private OpenPostDetailReader openPostDetailReader;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long postIdx;
+
+    @BeforeEach
+    void setUp() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            users.add(em.persist(User.builder()
+                    .email("user" + i + "@test.com")
+                    .password("password")
+                    .name("user" + i)
+                    .nickname("nickname" + i)
+                    .role("ROLE_USER")
+                    .phoneNumber("010-0000-000" + i)
+                    .address("address")
+                    .build()));
+        }
+
+        OpenPost post = em.persist(OpenPost.builder()
+                .title("title")
+                .content("content")
+                .user(users.get(0))
+                .imageUrlList(new ArrayList<>(List.of("image1", "image2")))
+                .createdAt(LocalDateTime.now())
+                .build());
+        postIdx = post.getIdx();
+
+        for (int i = 0; i < COMMENTS; i++) {
+            OpenComment comment = em.persist(OpenComment.builder()
+                    .content("comment" + i)
+                    .user(users.get(1 + i % 3))
+                    .openPost(post)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+            for (int j = 0; j < RECOMMENTS_PER_COMMENT; j++) {
+                em.persist(OpenRecomment.builder()
+                        .content("recomment" + i + "-" + j)
+                        .user(users.get(j % 4))
+                        .openComment(comment)
+                        .createdAt(LocalDateTime.now())
+                        .build());
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 게시글_상세는_댓글_대댓글_수와_관계없이_쿼리_4번으로_조회한다() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        OpenPostReadRes res = openPostDetailReader.read(postIdx);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(res.getAuthor()).isEqualTo("nickname0");
+        assertThat(res.getImageUrlList()).containsExactlyInAnyOrder("image1", "image2");
+        assertThat(res.getOpenCommentList()).hasSize(COMMENTS);
+        assertThat(res.getCommentCursor()).isNull();
+        for (OpenCommentReadRes comment : res.getOpenCommentList()) {
+            assertThat(comment.getAuthor()).isNotNull();
+            assertThat(comment.getRecommentList()).hasSize(5);
+            assertThat(comment.getRecommentList()).allSatisfy((recomment) -> assertThat(recomment.getAuthor()).isNotNull());
+            assertThat(comment.getRecommentCursor()).isNotNull();
+        }
+    }
+
+    @Test
+    void 미리보기에서_잘린_대댓글은_recommentCursor_로_이어서_조회한다() {
+        OpenCommentReadRes comment = openPostDetailReader.read(postIdx).getOpenCommentList().get(0);
+
+        OpenRecommentPageRes next = openPostDetailReader.readRecomments(comment.getIdx(), comment.getRecommentCursor(), null);
+
+        assertThat(next.getRecomments()).hasSize(RECOMMENTS_PER_COMMENT - 5);
+        assertThat(next.getRecomments()).extracting(OpenRecommentReadRes::getContent)
+                .containsExactly("recomment0-5", "recomment0-6");
+        assertThat(next.getRecomments()).allSatisfy((recomment) -> assertThat(recomment.getOpenPostIdx()).isEqualTo(postIdx));
+        assertThat(next.getNextCursor()).isNull();
+    }
+}